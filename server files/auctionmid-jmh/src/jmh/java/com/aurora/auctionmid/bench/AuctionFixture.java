@@ -0,0 +1,82 @@
+package com.aurora.auctionmid.bench;
+
+import com.aurora.auctionmid.AuctionMidApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The real middle tier, booted against a fresh in-memory H2 database (MySQL mode)
+ * with the schema from the service's Flyway migrations. Each fixture gets its own database, so
+ * trials never see each other's bids.
+ */
+public final class AuctionFixture implements AutoCloseable {
+
+    private static final ZoneId AUCTION_ZONE = ZoneId.of("America/Toronto");
+
+    private final ConfigurableApplicationContext context;
+
+    private AuctionFixture(ConfigurableApplicationContext context) {
+        this.context = context;
+    }
+
+    /**
+     * Start the application; {@code overrides} win over the benchmark defaults.
+     */
+    public static AuctionFixture start(Map<String, Object> overrides) {
+        Map<String, Object> props = new HashMap<>();
+        props.put("server.port", 0);
+        props.put("spring.datasource.url",
+                "jdbc:h2:mem:bench-" + System.nanoTime() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        props.put("spring.datasource.username", "sa");
+        props.put("spring.datasource.password", "");
+        props.put("spring.datasource.hikari.maximum-pool-size", 32);
+        props.put("spring.jpa.hibernate.ddl-auto", "none");
+        props.put("spring.jpa.properties.hibernate.format_sql", false);
+        props.put("logging.level.root", "WARN");
+        props.putAll(overrides);
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(AuctionMidApplication.class)
+                .properties(props)
+                .logStartupInfo(false)
+                .run();
+        return new AuctionFixture(context);
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    /**
+     * Insert {@code count} ACTIVE forward auctions at 1.00 that end tomorrow;
+     * returns their ids in insert order.
+     */
+    public long[] seedForwardItems(int count) {
+        JdbcTemplate jdbc = bean(JdbcTemplate.class);
+        LocalDateTime endTime = ZonedDateTime.now(AUCTION_ZONE).toLocalDateTime().plusDays(1);
+
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new Object[]{1L, "Bench item " + i, Timestamp.valueOf(endTime)});
+        }
+        jdbc.batchUpdate("INSERT INTO items (seller_id, title, starting_price, current_price, auction_type, "
+                + "status, end_time, payment_status) VALUES (?, ?, 1.00, 1.00, 'FORWARD', 'ACTIVE', ?, 'UNPAID')", rows);
+
+        return jdbc.queryForList("SELECT item_id FROM items ORDER BY item_id", Long.class)
+                .stream().mapToLong(Long::longValue).toArray();
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
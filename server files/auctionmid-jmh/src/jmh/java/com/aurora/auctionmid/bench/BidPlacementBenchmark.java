@@ -0,0 +1,137 @@
+package com.aurora.auctionmid.bench;
+
+import com.aurora.auctionmid.bid.BidRequest;
+import com.aurora.auctionmid.bid.BidService;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * BidService.placeBid end to end (sequencer, write-behind, H2) under the four
+ * bid-engine modes; event-log acks after a local append (fsynced) and projects
+ * into H2 behind it.
+ *
+ * contended: every thread bids on the same item, so all bids serialize on one
+ * book lock and bids that arrive out of order are rejected as too low.
+ * spread: threads bid on random items out of {@code items}, so books rarely
+ * collide and the DB write path dominates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class BidPlacementBenchmark {
+
+    @Param({"event-log", "write-behind", "sequencer", "legacy"})
+    public String engine;
+
+    @Param({"1000"})
+    public int items;
+
+    private AuctionFixture fixture;
+    private BidService bidService;
+    private long[] itemIds;
+    // next bid per item, in cents; every call bids a dollar above the last one handed out
+    private AtomicLong[] nextCents;
+
+    @State(Scope.Thread)
+    public static class Bidder {
+        long bidderId;
+
+        @Setup
+        public void init(ThreadParams thread) {
+            bidderId = 1_000L + thread.getThreadIndex();
+        }
+    }
+
+    /**
+     * Reported next to the score: accepted vs. rejected (outbid) bids per unit time.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Outcome {
+        public long accepted;
+        public long rejected;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            accepted = 0;
+            rejected = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void start() throws IOException {
+        boolean eventLog = "event-log".equals(engine);
+        fixture = AuctionFixture.start(Map.of(
+                "auction.bid-engine.enabled", !"legacy".equals(engine),
+                "auction.bid-engine.write-behind.enabled", eventLog || "write-behind".equals(engine),
+                "auction.bid-engine.event-log.enabled", eventLog,
+                "auction.bid-engine.event-log.dir", Files.createTempDirectory("bench-event-log").toString()
+        ));
+        bidService = fixture.bean(BidService.class);
+        itemIds = fixture.seedForwardItems(items);
+        nextCents = new AtomicLong[itemIds.length];
+        for (int i = 0; i < nextCents.length; i++) {
+            nextCents[i] = new AtomicLong(100);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        fixture.close();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Object contended(Bidder bidder, Outcome outcome) {
+        return bid(0, bidder, outcome);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Object spread(Bidder bidder, Outcome outcome) {
+        return bid(ThreadLocalRandom.current().nextInt(itemIds.length), bidder, outcome);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Object uncontended(Bidder bidder, Outcome outcome) {
+        return bid(0, bidder, outcome);
+    }
+
+    private Object bid(int slot, Bidder bidder, Outcome outcome) {
+        BigDecimal amount = BigDecimal.valueOf(nextCents[slot].addAndGet(100), 2);
+        try {
+            Object accepted = bidService.placeBid(itemIds[slot], new BidRequest(bidder.bidderId, amount));
+            outcome.accepted++;
+            return accepted;
+        } catch (IllegalArgumentException outbid) {
+            outcome.rejected++;
+            return outbid;
+        }
+    }
+}
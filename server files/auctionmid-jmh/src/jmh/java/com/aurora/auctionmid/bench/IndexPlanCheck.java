@@ -0,0 +1,104 @@
+package com.aurora.auctionmid.bench;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * H2 twin of db/check-indexes.sh: boots {@link AuctionFixture}, seeds items and
+ * bids, and asserts that the plan of each hot repository query names its index
+ * rather than a table scan. Exits non-zero if any doesn't.
+ *
+ * H2's planner is not MySQL's, so this catches a query or migration change that
+ * leaves a hot path without a usable index; check-indexes.sh against a real
+ * MySQL remains the word on what production picks.
+ *
+ *   java -cp build/libs/*-jmh.jar com.aurora.auctionmid.bench.IndexPlanCheck
+ */
+public final class IndexPlanCheck {
+
+    private record Expectation(String name, String key, String query) {}
+
+    // same list as check-indexes.sh
+    private static final List<Expectation> EXPECTED = List.of(
+            new Expectation("findByStatus", "idx_items_status_end|idx_items_status_type",
+                    "SELECT * FROM items WHERE status = 'ACTIVE'"),
+            new Expectation("findActiveDeadlines", "idx_items_status_end",
+                    "SELECT item_id, end_time FROM items WHERE status = 'ACTIVE' AND end_time IS NOT NULL"),
+            new Expectation("findByStatusEndTimePage", "idx_items_status_end",
+                    "SELECT * FROM items WHERE status = 'ACTIVE' AND end_time IS NOT NULL "
+                            + "ORDER BY end_time, item_id LIMIT 20"),
+            new Expectation("countByStatusAndAuctionType", "idx_items_status_type",
+                    "SELECT COUNT(*) FROM items WHERE status = 'ACTIVE' AND auction_type = 'DUTCH'"),
+            new Expectation("findBySellerIdAndStatus", "idx_items_seller_status_end",
+                    "SELECT * FROM items WHERE seller_id = 1 AND status = 'ACTIVE'"),
+            new Expectation("findBuyerPage", "idx_items_winner_payment",
+                    "SELECT * FROM items WHERE current_winner_id = 1 ORDER BY item_id DESC LIMIT 20"),
+            new Expectation("findBuyerPageByPaymentStatus", "idx_items_winner_payment",
+                    "SELECT * FROM items WHERE current_winner_id = 1 AND payment_status = 'UNPAID' "
+                            + "ORDER BY item_id DESC LIMIT 20"),
+            new Expectation("findByItemIdOrderByAmountDesc", "idx_bids_item_amount",
+                    "SELECT * FROM bids WHERE item_id = 1 ORDER BY amount DESC"),
+            new Expectation("countByItemId", "idx_bids_item_amount",
+                    "SELECT COUNT(*) FROM bids WHERE item_id = 1")
+    );
+
+    private static final int ITEMS = 2_000;
+    private static final int BIDS_PER_ITEM = 10;
+
+    private IndexPlanCheck() {
+    }
+
+    public static void main(String[] args) {
+        int failures;
+        try (AuctionFixture fixture = AuctionFixture.start(Map.of())) {
+            JdbcTemplate jdbc = fixture.bean(JdbcTemplate.class);
+            seed(fixture, jdbc);
+            failures = check(jdbc);
+        }
+        if (failures > 0) {
+            System.err.println(failures + " hot queries without an index");
+            System.exit(1);
+        }
+    }
+
+    // enough spread that a scan is never the cheap plan, as on a real database
+    private static void seed(AuctionFixture fixture, JdbcTemplate jdbc) {
+        long[] itemIds = fixture.seedForwardItems(ITEMS);
+        jdbc.update("UPDATE items SET seller_id = MOD(item_id, 100) + 1, current_winner_id = MOD(item_id, 200) + 1, "
+                + "status = CASE WHEN MOD(item_id, 4) = 0 THEN 'ENDED' ELSE 'ACTIVE' END, "
+                + "auction_type = CASE WHEN MOD(item_id, 10) = 0 THEN 'DUTCH' ELSE 'FORWARD' END, "
+                + "payment_status = CASE WHEN MOD(item_id, 8) = 0 THEN 'PAID' ELSE 'UNPAID' END");
+
+        List<Object[]> bids = new ArrayList<>(itemIds.length * BIDS_PER_ITEM);
+        for (long itemId : itemIds) {
+            for (int i = 1; i <= BIDS_PER_ITEM; i++) {
+                bids.add(new Object[]{itemId, (long) i, i + 1});
+            }
+        }
+        jdbc.batchUpdate("INSERT INTO bids (item_id, bidder_id, amount) VALUES (?, ?, ?)", bids);
+        jdbc.execute("ANALYZE");
+    }
+
+    private static int check(JdbcTemplate jdbc) {
+        int failures = 0;
+        for (Expectation e : EXPECTED) {
+            // H2 names the access path in a comment after the table: /* public.<index>: ... */ or .tableScan
+            String plan = jdbc.queryForObject("EXPLAIN " + e.query(), String.class);
+            String flat = plan.replaceAll("\\s+", " ");
+            boolean indexed = Pattern.compile("\\.(" + e.key() + ")\\b")
+                    .matcher(flat.toLowerCase(Locale.ROOT)).find();
+            if (indexed) {
+                System.out.printf("ok   %-28s %s%n", e.name(), flat);
+            } else {
+                System.out.printf("FAIL %-28s %s (want %s)%n", e.name(), flat, e.key());
+                failures++;
+            }
+        }
+        return failures;
+    }
+}
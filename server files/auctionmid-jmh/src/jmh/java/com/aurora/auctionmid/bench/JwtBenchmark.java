@@ -0,0 +1,67 @@
+package com.aurora.auctionmid.bench;
+
+import com.aurora.auctionmid.security.JwtUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtUtil on the request path: issuing a token, and verifying one that is in
+ * the verified-token cache (warm) or not (cold: full HMAC check and claim parse).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class JwtBenchmark {
+
+    private static final String SECRET = "benchmark-secret-benchmark-secret-benchmark-secret";
+
+    @Param({"4096"})
+    public int tokens;
+
+    private JwtUtil warm;
+    private JwtUtil cold;
+    private String[] issued;
+
+    @Setup
+    public void setUp() {
+        warm = new JwtUtil(SECRET, 60, tokens, new SimpleMeterRegistry());
+        // one entry per cache segment: practically every verify misses
+        cold = new JwtUtil(SECRET, 60, 1, new SimpleMeterRegistry());
+        issued = new String[tokens];
+        for (int i = 0; i < tokens; i++) {
+            issued[i] = warm.generate("user" + i, (long) i);
+            warm.verify(issued[i]);
+        }
+    }
+
+    @Benchmark
+    public String generate() {
+        return warm.generate("bench-user", 42L);
+    }
+
+    @Benchmark
+    public Object verifyCached() {
+        return warm.verify(issued[ThreadLocalRandom.current().nextInt(tokens)]);
+    }
+
+    @Benchmark
+    public Object verifyUncached() {
+        return cold.verify(issued[ThreadLocalRandom.current().nextInt(tokens)]);
+    }
+}
@@ -0,0 +1,107 @@
+package com.aurora.auctionmid.item;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CPU-only item paths, no Spring or DB: Dutch pricing (what
+ * ItemService.calculateCurrentDutchPrice runs), entity-to-DTO mapping and the
+ * per-item JSON encode done by CatalogueResponseCache. Lives in the item
+ * package to reach the package-private pieces.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class ItemHotPathBenchmark {
+
+    private static final ZoneId AUCTION_ZONE = ZoneId.of("America/Toronto");
+
+    private ItemEntity forward;
+    private ItemEntity dutch;
+    private DutchPriceSchedule schedule;
+    private DutchPriceCurve curve;
+    private ObjectMapper objectMapper;
+    private ItemResponse response;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = ZonedDateTime.now(AUCTION_ZONE).toLocalDateTime();
+        forward = item("FORWARD", now);
+        dutch = item("DUTCH", now);
+        dutch.setMinimumPrice(new BigDecimal("25.00"));
+
+        // priceAt(item, now) never touches the repository
+        schedule = new DutchPriceSchedule(null, 1000);
+        curve = DutchPriceCurve.of(dutch, 1000, AUCTION_ZONE);
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        response = ItemService.toResponse(forward);
+    }
+
+    /** Uncached path: build the curve from the entity, then price it. */
+    @Benchmark
+    public BigDecimal dutchPriceFromEntity() {
+        return schedule.priceAt(dutch, ZonedDateTime.now(AUCTION_ZONE).toLocalDateTime());
+    }
+
+    /** Cached path behind getCurrentDutchPrice and the live ticker. */
+    @Benchmark
+    public long dutchPriceFromCurve() {
+        return curve.priceCentsAt(System.currentTimeMillis());
+    }
+
+    @Benchmark
+    public ItemResponse toResponse() {
+        return ItemService.toResponse(forward);
+    }
+
+    @Benchmark
+    public byte[] encodeResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    private static ItemEntity item(String type, LocalDateTime now) {
+        return ItemEntity.builder()
+                .itemId(1L)
+                .sellerId(7L)
+                .title("Vintage film camera")
+                .description("35mm rangefinder, serviced last year, light seals replaced.")
+                .conditionCode("USED")
+                .coverImageUrl("https://example.com/camera.jpg")
+                .shipCostStd(new BigDecimal("12.50"))
+                .shipCostExp(new BigDecimal("29.00"))
+                .shipDays(5)
+                .startingPrice(new BigDecimal("150.00"))
+                .currentPrice(new BigDecimal("150.00"))
+                .auctionType(type)
+                .status("ACTIVE")
+                .category("Cameras")
+                .keywords("film rangefinder 35mm")
+                .quantity(1)
+                .createdAt(now.minusHours(1))
+                .endTime(now.plusDays(3))
+                .paymentStatus("UNPAID")
+                .build();
+    }
+}
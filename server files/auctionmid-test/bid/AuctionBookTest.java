@@ -0,0 +1,87 @@
+package com.aurora.auctionmid.bid;
+
+import com.aurora.auctionmid.bid.AuctionBook.VisibleBid;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuctionBookTest {
+
+    private static AuctionBook book(String currentPrice, Long winnerId) {
+        return AuctionBook.of(new AuctionBook.State(1L, "FORWARD", new BigDecimal("10.00"),
+                new BigDecimal(currentPrice), winnerId, "ACTIVE", LocalDateTime.now().plusHours(1)), new HashMap<>());
+    }
+
+    private static VisibleBid bid(long bidderId, String amount) {
+        return new VisibleBid(bidderId, new BigDecimal(amount));
+    }
+
+    @Test
+    void noProxiesPlaceNothing() {
+        assertThat(book("10.00", null).resolveProxies()).isEmpty();
+    }
+
+    @Test
+    void loneProxyOutbidsTheCurrentWinnerByOneIncrement() {
+        AuctionBook book = book("20.00", 7L);
+        book.registerProxy(1L, new BigDecimal("50.00"), new BigDecimal("1.00"));
+
+        assertThat(book.resolveProxies()).containsExactly(bid(1, "21.00"));
+    }
+
+    @Test
+    void loneProxyAlreadyLeadingStaysPut() {
+        AuctionBook book = book("20.00", 1L);
+        book.registerProxy(1L, new BigDecimal("50.00"), new BigDecimal("1.00"));
+
+        assertThat(book.resolveProxies()).isEmpty();
+    }
+
+    @Test
+    void runnerUpBidsItsMaximumBeforeTheLeader() {
+        AuctionBook book = book("20.00", null);
+        book.registerProxy(1L, new BigDecimal("30.00"), new BigDecimal("1.00"));
+        book.registerProxy(2L, new BigDecimal("50.00"), new BigDecimal("2.00"));
+
+        assertThat(book.resolveProxies()).containsExactly(bid(1, "30.00"), bid(2, "32.00"));
+    }
+
+    @Test
+    void leaderIsCappedAtItsOwnMaximum() {
+        AuctionBook book = book("20.00", null);
+        book.registerProxy(1L, new BigDecimal("40.00"), new BigDecimal("1.00"));
+        book.registerProxy(2L, new BigDecimal("40.50"), new BigDecimal("5.00"));
+
+        assertThat(book.resolveProxies()).containsExactly(bid(1, "40.00"), bid(2, "40.50"));
+    }
+
+    @Test
+    void earlierProxyWinsATie() {
+        AuctionBook book = book("20.00", null);
+        book.registerProxy(2L, new BigDecimal("40.00"), new BigDecimal("1.00"));
+        book.registerProxy(1L, new BigDecimal("40.00"), new BigDecimal("1.00"));
+
+        assertThat(book.resolveProxies()).containsExactly(bid(2, "40.00"));
+    }
+
+    @Test
+    void exhaustedProxiesAreIgnored() {
+        AuctionBook book = book("60.00", 7L);
+        book.registerProxy(1L, new BigDecimal("50.00"), new BigDecimal("1.00"));
+        book.registerProxy(2L, new BigDecimal("60.00"), new BigDecimal("1.00"));
+
+        assertThat(book.resolveProxies()).isEmpty();
+    }
+
+    @Test
+    void firstProxyBidIsAtLeastTheStartingPrice() {
+        AuctionBook book = book("0.00", null);
+        book.registerProxy(1L, new BigDecimal("50.00"), new BigDecimal("1.00"));
+
+        assertThat(book.resolveProxies()).containsExactly(bid(1, "10.00"));
+    }
+}
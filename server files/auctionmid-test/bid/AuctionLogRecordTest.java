@@ -0,0 +1,74 @@
+package com.aurora.auctionmid.bid;
+
+import com.aurora.auctionmid.bid.AuctionLogRecord.Type;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuctionLogRecordTest {
+
+    private static final LocalDateTime AT = LocalDateTime.of(2026, 3, 1, 12, 30, 15, 123_456_789);
+
+    private static final AuctionLogRecord BID = new AuctionLogRecord(
+            42L, Type.BID, 7L, 3L, new BigDecimal("125.50"), AT.plusMinutes(5), AT);
+
+    private static ByteBuffer written(AuctionLogRecord... records) {
+        ByteBuffer buf = ByteBuffer.allocate(records.length * AuctionLogRecord.BYTES);
+        for (AuctionLogRecord r : records) {
+            r.writeTo(buf);
+        }
+        return buf.flip();
+    }
+
+    @Test
+    void bidRoundTrips() {
+        ByteBuffer buf = written(BID);
+
+        assertThat(AuctionLogRecord.readFrom(buf)).isEqualTo(BID);
+        assertThat(buf.remaining()).isZero();
+    }
+
+    @Test
+    void statusRecordRoundTripsWithoutBidFields() {
+        AuctionLogRecord ended = new AuctionLogRecord(43L, Type.ENDED, 7L, null, null, null, AT);
+
+        assertThat(AuctionLogRecord.readFrom(written(ended))).isEqualTo(ended);
+    }
+
+    @Test
+    void recordsAreReadBackInOrder() {
+        AuctionLogRecord paid = new AuctionLogRecord(43L, Type.PAID, 7L, 3L, null, null, AT);
+        ByteBuffer buf = written(BID, paid);
+
+        assertThat(AuctionLogRecord.readFrom(buf)).isEqualTo(BID);
+        assertThat(AuctionLogRecord.readFrom(buf)).isEqualTo(paid);
+        assertThat(AuctionLogRecord.readFrom(buf)).isNull();
+    }
+
+    @Test
+    void shortRecordIsTorn() {
+        ByteBuffer buf = written(BID);
+        buf.limit(AuctionLogRecord.BYTES - 1);
+
+        assertThat(AuctionLogRecord.readFrom(buf)).isNull();
+        assertThat(buf.position()).isZero();
+    }
+
+    @Test
+    void corruptedRecordFailsItsChecksum() {
+        ByteBuffer buf = written(BID);
+        buf.put(20, (byte) (buf.get(20) ^ 1));
+
+        assertThat(AuctionLogRecord.readFrom(buf)).isNull();
+        assertThat(buf.position()).isZero();
+    }
+
+    @Test
+    void zeroFilledTailIsNotARecord() {
+        assertThat(AuctionLogRecord.readFrom(ByteBuffer.allocate(AuctionLogRecord.BYTES))).isNull();
+    }
+}
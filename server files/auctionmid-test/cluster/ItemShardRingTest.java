@@ -0,0 +1,85 @@
+package com.aurora.auctionmid.cluster;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ItemShardRingTest {
+
+    private static final List<String> NODES = List.of("http://a:8080", "http://b:8080", "http://c:8080");
+    private static final int ITEMS = 30_000;
+
+    private static ItemShardRing ring(List<String> nodes) {
+        return new ItemShardRing(true, nodes.get(0), nodes, 160);
+    }
+
+    @Test
+    void sequentialIdsSpreadEvenly() {
+        ItemShardRing ring = ring(NODES);
+        Map<String, Integer> owned = new HashMap<>();
+        for (long id = 1; id <= ITEMS; id++) {
+            owned.merge(ring.ownerOf(id), 1, Integer::sum);
+        }
+
+        assertThat(owned).containsOnlyKeys(NODES);
+        // a third each, within a quarter of that
+        owned.values().forEach(n -> assertThat(n).isBetween(ITEMS / 4, ITEMS * 5 / 12));
+    }
+
+    @Test
+    void addingANodeOnlyMovesItemsToIt() {
+        ItemShardRing before = ring(NODES);
+        List<String> grown = List.of("http://a:8080", "http://b:8080", "http://c:8080", "http://d:8080");
+        ItemShardRing after = ring(grown);
+
+        int moved = 0;
+        for (long id = 1; id <= ITEMS; id++) {
+            String owner = after.ownerOf(id);
+            if (!owner.equals(before.ownerOf(id))) {
+                assertThat(owner).isEqualTo("http://d:8080");
+                moved++;
+            }
+        }
+        assertThat(moved).isBetween(ITEMS / 6, ITEMS / 3);
+    }
+
+    @Test
+    void everyNodeAgreesOnOwners() {
+        ItemShardRing onA = new ItemShardRing(true, "http://a:8080", NODES, 160);
+        ItemShardRing onC = new ItemShardRing(true, "http://c:8080/", NODES, 160);
+
+        for (long id = 1; id <= 1_000; id++) {
+            assertThat(onC.ownerOf(id)).isEqualTo(onA.ownerOf(id));
+            assertThat(onA.isLocal(id)).isEqualTo(onA.ownerOf(id).equals("http://a:8080"));
+        }
+    }
+
+    @Test
+    void peersAreTheOtherNodes() {
+        ItemShardRing ring = ring(NODES);
+
+        assertThat(ring.peers()).containsExactly("http://b:8080", "http://c:8080");
+        assertThat(ring.isPeer("http://b:8080/")).isTrue();
+        assertThat(ring.isPeer("http://a:8080")).isFalse();
+        assertThat(ring.isPeer("http://x:8080")).isFalse();
+    }
+
+    @Test
+    void disabledRingKeepsEverythingLocal() {
+        ItemShardRing ring = new ItemShardRing(false, "", List.of(), 160);
+
+        assertThat(ring.isLocal(1L)).isTrue();
+        assertThat(ring.peers()).isEmpty();
+    }
+
+    @Test
+    void selfMustBeAListedNode() {
+        assertThatThrownBy(() -> new ItemShardRing(true, "http://x:8080", NODES, 160))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,104 @@
+package com.aurora.auctionmid.cluster;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PeerAuthTest {
+
+    private static final List<String> NODES = List.of("http://a:8080", "http://b:8080");
+    private static final String SECRET = "cluster-secret";
+    private static final byte[] BODY = "{\"amount\":12.50}".getBytes(StandardCharsets.UTF_8);
+
+    private final PeerAuth onA = auth("http://a:8080", SECRET);
+    private final PeerAuth onB = auth("http://b:8080", SECRET);
+
+    private static PeerAuth auth(String self, String secret) {
+        return new PeerAuth(new ItemShardRing(true, self, NODES, 160), secret, 30_000, 1_000);
+    }
+
+    private static HttpHeaders signed(PeerAuth auth, String pathAndQuery, byte[] body) {
+        HttpHeaders headers = new HttpHeaders();
+        auth.sign(headers, pathAndQuery, body);
+        return headers;
+    }
+
+    private static MockHttpServletRequest request(HttpHeaders headers, String path, String query) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.setQueryString(query);
+        headers.forEach((name, values) -> values.forEach(v -> request.addHeader(name, v)));
+        return request;
+    }
+
+    @Test
+    void acceptsASignedRequestFromAPeer() {
+        HttpHeaders headers = signed(onA, "/api/items/7/bids?proxy=true", BODY);
+
+        assertThat(onB.verify(request(headers, "/api/items/7/bids", "proxy=true"), BODY)).isEqualTo("http://a:8080");
+    }
+
+    @Test
+    void rejectsAReplay() {
+        HttpHeaders headers = signed(onA, "/api/items/7/bids", BODY);
+
+        assertThat(onB.verify(request(headers, "/api/items/7/bids", null), BODY)).isEqualTo("http://a:8080");
+        assertThat(onB.verify(request(headers, "/api/items/7/bids", null), BODY)).isNull();
+    }
+
+    @Test
+    void rejectsAChangedBody() {
+        HttpHeaders headers = signed(onA, "/api/items/7/bids", BODY);
+        byte[] other = "{\"amount\":99.00}".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(onB.verify(request(headers, "/api/items/7/bids", null), other)).isNull();
+    }
+
+    @Test
+    void rejectsAChangedPath() {
+        HttpHeaders headers = signed(onA, "/api/items/7/bids", BODY);
+
+        assertThat(onB.verify(request(headers, "/api/items/8/bids", null), BODY)).isNull();
+    }
+
+    @Test
+    void rejectsAnotherSecret() {
+        HttpHeaders headers = signed(auth("http://a:8080", "other-secret"), "/api/items/7/bids", BODY);
+
+        assertThat(onB.verify(request(headers, "/api/items/7/bids", null), BODY)).isNull();
+    }
+
+    @Test
+    void rejectsAStaleTimestamp() {
+        HttpHeaders headers = signed(onA, "/api/items/7/bids", BODY);
+        headers.set(PeerAuth.TIMESTAMP_HEADER, Long.toString(System.currentTimeMillis() - 60_000));
+
+        assertThat(onB.verify(request(headers, "/api/items/7/bids", null), BODY)).isNull();
+    }
+
+    @Test
+    void rejectsTheForwardedHeaderAlone() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(ShardForwardingFilter.FORWARDED_HEADER, "http://a:8080");
+
+        assertThat(onB.verify(request(headers, "/api/items/7/bids", null), BODY)).isNull();
+    }
+
+    @Test
+    void rejectsItsOwnRequests() {
+        HttpHeaders headers = signed(onB, "/api/items/7/bids", BODY);
+
+        assertThat(onB.verify(request(headers, "/api/items/7/bids", null), BODY)).isNull();
+    }
+
+    @Test
+    void clusterNeedsASecret() {
+        assertThatThrownBy(() -> auth("http://a:8080", ""))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
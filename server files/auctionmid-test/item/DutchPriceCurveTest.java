@@ -0,0 +1,103 @@
+package com.aurora.auctionmid.item;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DutchPriceCurveTest {
+
+    private static final ZoneId ZONE = ZoneId.of("America/Toronto");
+    private static final LocalDateTime CREATED = LocalDateTime.of(2026, 3, 1, 12, 0);
+
+    // $10.00 down to $0.00 over 3 steps of 1s
+    private static final DutchPriceCurve THIRDS = new DutchPriceCurve(1000, 0, 0, 3000, 1000, 3000);
+
+    private static ItemEntity dutch(String start, String min, LocalDateTime created, LocalDateTime end) {
+        return ItemEntity.builder()
+                .auctionType("DUTCH")
+                .startingPrice(new BigDecimal(start))
+                .currentPrice(new BigDecimal(start))
+                .minimumPrice(min != null ? new BigDecimal(min) : null)
+                .createdAt(created)
+                .endTime(end)
+                .build();
+    }
+
+    @Test
+    void fallsInWholeSteps() {
+        assertThat(THIRDS.priceCentsAt(-1)).isEqualTo(1000);
+        assertThat(THIRDS.priceCentsAt(0)).isEqualTo(1000);
+        assertThat(THIRDS.priceCentsAt(999)).isEqualTo(1000);
+        assertThat(THIRDS.priceCentsAt(1000)).isEqualTo(667);
+        assertThat(THIRDS.priceCentsAt(2000)).isEqualTo(334);
+        assertThat(THIRDS.priceCentsAt(3000)).isEqualTo(0);
+        assertThat(THIRDS.priceCentsAt(10_000)).isEqualTo(0);
+    }
+
+    @Test
+    void dropRoundsDownSoThePriceNeverUndercutsTheLine() {
+        DutchPriceCurve curve = new DutchPriceCurve(1001, 1, 0, 7000, 1000, 7000);
+        for (long t = 0; t < 7000; t += 1000) {
+            long step = t / 1000;
+            double exact = 1001 - 1000.0 * step / 7;
+            assertThat((double) curve.priceCentsAt(t)).isGreaterThanOrEqualTo(exact);
+            assertThat(curve.priceCentsAt(t) - exact).isLessThan(1.0);
+        }
+    }
+
+    @Test
+    void hugeRangesDoNotOverflow() {
+        // range * step is 3e24, past a long
+        DutchPriceCurve curve = new DutchPriceCurve(3_000_000_000_000_000_000L, 0, 0, 3_000_000, 1, 3_000_000);
+
+        assertThat(curve.priceCentsAt(1_000_000)).isEqualTo(2_000_000_000_000_000_000L);
+    }
+
+    @Test
+    void pricesAreRoundedHalfUpToCents() {
+        ItemEntity item = dutch("10.005", "2.004", CREATED, CREATED.plusMinutes(10));
+        DutchPriceCurve curve = DutchPriceCurve.of(item, 1000, ZONE);
+
+        assertThat(curve.startCents()).isEqualTo(1001);
+        assertThat(curve.minCents()).isEqualTo(200);
+        assertThat(curve.priceAt(CREATED, ZONE)).isEqualTo(new BigDecimal("10.01"));
+        assertThat(curve.priceAt(CREATED.plusMinutes(10), ZONE)).isEqualTo(new BigDecimal("2.00"));
+    }
+
+    @Test
+    void priceAtHasTwoDecimalPlaces() {
+        DutchPriceCurve curve = DutchPriceCurve.of(dutch("10", "0", CREATED, CREATED.plusSeconds(3)), 1000, ZONE);
+
+        assertThat(curve.priceAt(CREATED.plusSeconds(1), ZONE)).isEqualTo(new BigDecimal("6.67"));
+        assertThat(curve.priceAt(CREATED.plusSeconds(3), ZONE)).isEqualTo(new BigDecimal("0.00"));
+    }
+
+    @Test
+    void minimumAboveStartIsClampedToStart() {
+        DutchPriceCurve curve = DutchPriceCurve.of(dutch("5.00", "8.00", CREATED, CREATED.plusMinutes(1)), 1000, ZONE);
+
+        assertThat(curve.minCents()).isEqualTo(500);
+        assertThat(curve.priceAt(CREATED.plusMinutes(1), ZONE)).isEqualTo(new BigDecimal("5.00"));
+    }
+
+    @Test
+    void noWindowMeansAFlatPrice() {
+        DutchPriceCurve curve = DutchPriceCurve.of(dutch("12.34", "1.00", null, null), 1000, ZONE);
+
+        assertThat(curve.priceAt(CREATED, ZONE)).isEqualTo(new BigDecimal("12.34"));
+        assertThat(curve.endedAt(CREATED.plusYears(10), ZONE)).isFalse();
+    }
+
+    @Test
+    void endsOnlyAfterTheDeadline() {
+        LocalDateTime end = CREATED.plusMinutes(1);
+        DutchPriceCurve curve = DutchPriceCurve.of(dutch("10.00", "1.00", CREATED, end), 1000, ZONE);
+
+        assertThat(curve.endedAt(end, ZONE)).isFalse();
+        assertThat(curve.endedAt(end.plusNanos(1_000_000), ZONE)).isTrue();
+    }
+}
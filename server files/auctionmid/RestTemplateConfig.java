@@ -1,14 +1,48 @@
 package com.aurora.auctionmid.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
 @Configuration
 public class RestTemplateConfig {
 
+    /**
+     * Shared client for the auth upstream. It keeps HTTP/1.1 connections alive
+     * and reuses them, so logins don't pay a TCP handshake each time.
+     */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public HttpClient authHttpClient(
+            @Value("${auth.http.connect-timeout-ms:2000}") long connectTimeoutMs,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs));
+        if (virtualThreads) {
+            // async sends and response handling run on virtual threads too, not a cached platform pool
+            builder.executor(Executors.newVirtualThreadPerTaskExecutor());
+        }
+        return builder.build();
+    }
+
+    @Bean
+    public RestTemplate restTemplate(
+            HttpClient authHttpClient,
+            UpstreamConnectionLimiter connectionLimiter,
+            @Value("${auth.http.read-timeout-ms:5000}") long readTimeoutMs
+    ) {
+        JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(authHttpClient);
+        factory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+
+        RestTemplate restTemplate = new RestTemplate(factory);
+        restTemplate.getInterceptors().add(connectionLimiter);
+        return restTemplate;
     }
 }
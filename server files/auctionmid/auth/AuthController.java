@@ -6,6 +6,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/api/auth")
 @CrossOrigin // allow calls from your frontend; you can restrict origins later
@@ -15,12 +17,12 @@ public class AuthController {
     private final AuthService authService;
 
     @PostMapping("/register")
-    public ResponseEntity<String> register(@RequestBody RegisterRequest request) {
-        return authService.register(request);
+    public CompletableFuture<ResponseEntity<String>> register(@RequestBody RegisterRequest request) {
+        return authService.registerAsync(request);
     }
 
     @PostMapping("/login")
-    public ResponseEntity<String> login(@RequestBody LoginRequest request) {
-        return authService.login(request);
+    public CompletableFuture<ResponseEntity<String>> login(@RequestBody LoginRequest request) {
+        return authService.loginAsync(request);
     }
 }
@@ -2,22 +2,51 @@ package com.aurora.auctionmid.auth;
 
 import com.aurora.auctionmid.auth.dto.LoginRequest;
 import com.aurora.auctionmid.auth.dto.RegisterRequest;
+import com.aurora.auctionmid.config.UpstreamConnectionLimiter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
 @Service
 @RequiredArgsConstructor
 public class AuthService {
 
     private final RestTemplate restTemplate;
+    private final HttpClient authHttpClient;
+    private final UpstreamConnectionLimiter connectionLimiter;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
 
     // from application.properties
     @Value("${auth.base-url}")
     private String authBaseUrl;
 
+    // true = proxy through HttpClient.sendAsync and release the request thread while waiting
+    @Value("${auth.http.async:false}")
+    private boolean asyncEnabled;
+
+    @Value("${auth.http.read-timeout-ms:5000}")
+    private long readTimeoutMs;
+
     public ResponseEntity<String> register(RegisterRequest request) {
         String url = authBaseUrl + "/api/auth/register";
 
@@ -26,7 +55,7 @@ public class AuthService {
 
         HttpEntity<RegisterRequest> entity = new HttpEntity<>(request, headers);
 
-        return restTemplate.exchange(url, HttpMethod.POST, entity, String.class);
+        return timed("register", () -> restTemplate.exchange(url, HttpMethod.POST, entity, String.class));
     }
 
     public ResponseEntity<String> login(LoginRequest request) {
@@ -37,6 +66,111 @@ public class AuthService {
 
         HttpEntity<LoginRequest> entity = new HttpEntity<>(request, headers);
 
-        return restTemplate.exchange(url, HttpMethod.POST, entity, String.class);
+        return timed("login", () -> restTemplate.exchange(url, HttpMethod.POST, entity, String.class));
+    }
+
+    // ---- Non-blocking variants ----
+
+    public CompletableFuture<ResponseEntity<String>> registerAsync(RegisterRequest request) {
+        if (!asyncEnabled) {
+            return CompletableFuture.completedFuture(register(request));
+        }
+        return postAsync("register", "/api/auth/register", request);
+    }
+
+    public CompletableFuture<ResponseEntity<String>> loginAsync(LoginRequest request) {
+        if (!asyncEnabled) {
+            return CompletableFuture.completedFuture(login(request));
+        }
+        return postAsync("login", "/api/auth/login", request);
+    }
+
+    /**
+     * POST to the authenticator without holding a thread while it answers.
+     * Fails the same way as the RestTemplate path: a saturated route waits up
+     * to acquire-timeout-ms for a slot, and a 4xx/5xx answer fails the future
+     * with the HttpStatusCodeException RestTemplate would have thrown.
+     */
+    private CompletableFuture<ResponseEntity<String>> postAsync(String op, String path, Object body) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("Invalid request body", ex);
+        }
+
+        URI uri = URI.create(authBaseUrl + path);
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofMillis(readTimeoutMs))
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        return connectionLimiter.acquireAsync(uri)
+                .thenCompose(slot -> send(request, slot))
+                .whenComplete((resp, ex) ->
+                        sample.stop(upstreamTimer(op, resp != null ? statusFamily(resp.statusCode()) : "error")))
+                .thenApply(AuthService::toResponseEntity);
+    }
+
+    // the slot goes back when the exchange ends, or right away if it never starts
+    private CompletableFuture<HttpResponse<String>> send(HttpRequest request, Semaphore slot) {
+        CompletableFuture<HttpResponse<String>> sent;
+        try {
+            sent = authHttpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+        } catch (RuntimeException ex) {
+            connectionLimiter.release(slot);
+            throw ex;
+        }
+        return sent.whenComplete((resp, ex) -> connectionLimiter.release(slot));
+    }
+
+    private static ResponseEntity<String> toResponseEntity(HttpResponse<String> resp) {
+        HttpStatusCode status = HttpStatusCode.valueOf(resp.statusCode());
+        if (status.isError()) {
+            HttpHeaders headers = new HttpHeaders();
+            resp.headers().map().forEach(headers::addAll);
+            byte[] body = resp.body() != null ? resp.body().getBytes(StandardCharsets.UTF_8) : new byte[0];
+            throw status.is4xxClientError()
+                    ? HttpClientErrorException.create(status, "", headers, body, StandardCharsets.UTF_8)
+                    : HttpServerErrorException.create(status, "", headers, body, StandardCharsets.UTF_8);
+        }
+        return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(resp.body());
+    }
+
+    // ---- Metrics ----
+
+    /**
+     * auth.upstream.requests{op, outcome=2xx|4xx|5xx|error}; RestTemplate throws
+     * on 4xx/5xx, so the status is read off the exception too.
+     */
+    private ResponseEntity<String> timed(String op, Supplier<ResponseEntity<String>> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            ResponseEntity<String> response = call.get();
+            outcome = statusFamily(response.getStatusCode().value());
+            return response;
+        } catch (HttpStatusCodeException ex) {
+            outcome = statusFamily(ex.getStatusCode().value());
+            throw ex;
+        } finally {
+            sample.stop(upstreamTimer(op, outcome));
+        }
+    }
+
+    private Timer upstreamTimer(String op, String outcome) {
+        return Timer.builder("auth.upstream.requests")
+                .description("Calls to the Python authenticator")
+                .tags("op", op, "outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static String statusFamily(int status) {
+        return (status / 100) + "xx";
     }
 }
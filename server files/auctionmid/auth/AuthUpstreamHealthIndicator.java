@@ -0,0 +1,85 @@
+package com.aurora.auctionmid.auth;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * "authUpstream" health: can we reach the Python authenticator?
+ *
+ * Any HTTP answer below 500 counts as reachable (the authenticator has no health
+ * route, so a 404 on the base URL is fine). The result is reused for
+ * cache-ms so frequent probes don't turn into a request stream upstream.
+ */
+@Component
+public class AuthUpstreamHealthIndicator implements HealthIndicator {
+
+    private final HttpClient authHttpClient;
+    private final URI probeUri;
+    private final Duration timeout;
+    private final long cacheNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile Health last;
+    private volatile long checkedAt;
+
+    public AuthUpstreamHealthIndicator(
+            HttpClient authHttpClient,
+            @Value("${auth.base-url}") String authBaseUrl,
+            @Value("${auth.health.timeout-ms:1000}") long timeoutMillis,
+            @Value("${auth.health.cache-ms:5000}") long cacheMillis
+    ) {
+        this.authHttpClient = authHttpClient;
+        this.probeUri = URI.create(authBaseUrl + "/");
+        this.timeout = Duration.ofMillis(timeoutMillis);
+        this.cacheNanos = Duration.ofMillis(cacheMillis).toNanos();
+    }
+
+    @Override
+    public Health health() {
+        Health cached = last;
+        if (cached != null && System.nanoTime() - checkedAt < cacheNanos) {
+            return cached;
+        }
+        lock.lock();
+        try {
+            if (last == null || System.nanoTime() - checkedAt >= cacheNanos) {
+                last = probe();
+                checkedAt = System.nanoTime();
+            }
+            return last;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Health probe() {
+        HttpRequest request = HttpRequest.newBuilder(probeUri)
+                .timeout(timeout)
+                .GET()
+                .build();
+        long start = System.nanoTime();
+        try {
+            int status = authHttpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            Health.Builder health = status < 500 ? Health.up() : Health.down();
+            return health
+                    .withDetail("url", probeUri.toString())
+                    .withDetail("status", status)
+                    .withDetail("latencyMs", Duration.ofNanos(System.nanoTime() - start).toMillis())
+                    .build();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return Health.down(ex).withDetail("url", probeUri.toString()).build();
+        } catch (Exception ex) {
+            return Health.down(ex).withDetail("url", probeUri.toString()).build();
+        }
+    }
+}
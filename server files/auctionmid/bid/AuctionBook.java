@@ -0,0 +1,148 @@
+package com.aurora.auctionmid.bid;
+
+import com.aurora.auctionmid.item.ItemEntity;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory view of one auction, as seen by the bid path.
+ * Mutable fields are guarded by {@link #lock}; go through
+ * {@link BidSequencer#withBook} rather than touching them directly.
+ */
+@Getter
+@Setter
+final class AuctionBook {
+
+    private final Long itemId;
+    private final String auctionType;      // FORWARD / DUTCH
+    private final BigDecimal startingPrice;
+
+    private BigDecimal currentPrice;
+    private Long currentWinnerId;
+    private String status;                 // ACTIVE / ENDED
+    private LocalDateTime endTime;
+
+    // proxy bids by bidder; owned by BidSequencer so they outlive a book reload
+    @Getter(AccessLevel.NONE)
+    private final Map<Long, ProxyBid> proxies;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private long proxySeq;
+
+    @Getter(AccessLevel.NONE)
+    final ReentrantLock lock = new ReentrantLock();
+
+    // set under the lock when the book is evicted; whoever gets the lock next must reload instead
+    private boolean retired;
+    // set by the bid flusher when a write this book already counted fails; the next withBook retires it
+    private volatile boolean stale;
+
+    /** A bid the proxy engine places on someone's behalf. */
+    record VisibleBid(Long bidderId, BigDecimal amount) {}
+
+    /** The part of a book that survives a restart, as written to event-log snapshots. */
+    record State(Long itemId, String auctionType, BigDecimal startingPrice, BigDecimal currentPrice,
+                 Long currentWinnerId, String status, LocalDateTime endTime) {}
+
+    private AuctionBook(State state, Map<Long, ProxyBid> proxies) {
+        this.itemId = state.itemId();
+        this.auctionType = state.auctionType();
+        this.startingPrice = state.startingPrice();
+        this.currentPrice = state.currentPrice();
+        this.currentWinnerId = state.currentWinnerId();
+        this.status = state.status();
+        this.endTime = state.endTime();
+        this.proxies = proxies;
+        this.proxySeq = proxies.values().stream().mapToLong(ProxyBid::seq).max().orElse(0L);
+    }
+
+    static AuctionBook of(ItemEntity item) {
+        return of(item, new HashMap<>());
+    }
+
+    static AuctionBook of(ItemEntity item, Map<Long, ProxyBid> proxies) {
+        return of(new State(
+                item.getItemId(),
+                item.getAuctionType(),
+                item.getStartingPrice(),
+                item.getCurrentPrice(),
+                item.getCurrentWinnerId(),
+                item.getStatus(),
+                item.getEndTime()
+        ), proxies);
+    }
+
+    static AuctionBook of(State state, Map<Long, ProxyBid> proxies) {
+        return new AuctionBook(state, proxies);
+    }
+
+    State state() {
+        return new State(itemId, auctionType, startingPrice, currentPrice, currentWinnerId, status, endTime);
+    }
+
+    void accept(BigDecimal amount, Long bidderId, LocalDateTime endTime) {
+        this.currentPrice = amount;
+        this.currentWinnerId = bidderId;
+        this.endTime = endTime;
+    }
+
+    ProxyBid proxyOf(Long bidderId) {
+        return proxies.get(bidderId);
+    }
+
+    ProxyBid registerProxy(Long bidderId, BigDecimal maxAmount, BigDecimal increment) {
+        ProxyBid proxy = new ProxyBid(bidderId, maxAmount, increment, ++proxySeq);
+        proxies.put(bidderId, proxy);
+        return proxy;
+    }
+
+    /**
+     * Bids the proxies place in response to the current price, in order
+     * (eBay-style, one pass): the strongest proxy ends up leading at one
+     * increment over the runner-up's maximum, capped at its own; the runner-up's
+     * last bid, at its maximum, is shown first. Empty when nothing changes.
+     * Does not apply the bids; callers {@link #accept} each once it is queued
+     * or persisted.
+     */
+    List<VisibleBid> resolveProxies() {
+        ProxyBid leader = null;
+        ProxyBid runnerUp = null;
+        for (ProxyBid p : proxies.values()) {
+            if (p.maxAmount().compareTo(currentPrice) <= 0) {
+                continue;   // can't go any higher
+            }
+            if (leader == null || p.outranks(leader)) {
+                runnerUp = leader;
+                leader = p;
+            } else if (runnerUp == null || p.outranks(runnerUp)) {
+                runnerUp = p;
+            }
+        }
+        if (leader == null) {
+            return List.of();
+        }
+
+        boolean leaderHolds = leader.bidderId().equals(currentWinnerId);
+        if (leaderHolds && runnerUp == null) {
+            return List.of();
+        }
+        BigDecimal beat = runnerUp != null ? runnerUp.maxAmount() : currentPrice;
+        BigDecimal target = beat.add(leader.increment()).min(leader.maxAmount()).max(startingPrice);
+
+        List<VisibleBid> bids = new ArrayList<>(2);
+        if (runnerUp != null && runnerUp.maxAmount().compareTo(target) < 0) {
+            bids.add(new VisibleBid(runnerUp.bidderId(), runnerUp.maxAmount()));
+        }
+        bids.add(new VisibleBid(leader.bidderId(), target));
+        return bids;
+    }
+}
@@ -0,0 +1,95 @@
+package com.aurora.auctionmid.bid;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.zip.CRC32;
+
+/**
+ * One entry of the {@link BidEventLog}.
+ *
+ * Records have a fixed size and end in a CRC32, so a segment is scanned without
+ * any framing and a write torn by a crash shows up as a short or bad last record.
+ * Times are auction-zone wall clock, stored as if they were UTC.
+ */
+record AuctionLogRecord(
+        long seq,
+        Type type,
+        Long itemId,
+        Long bidderId,          // BID only
+        BigDecimal amount,      // BID only
+        LocalDateTime endTime,  // BID only, after any soft-close extension
+        LocalDateTime at
+) {
+
+    enum Type { BID, ENDED, PAID }
+
+    // seq, type, itemId, bidderId, amount (unscaled, scale), endTime (s, ns), at (s, ns), crc
+    static final int BYTES = 8 + 1 + 8 + 8 + 8 + 4 + 8 + 4 + 8 + 4 + 4;
+
+    private static final long NONE = Long.MIN_VALUE;
+
+    void writeTo(ByteBuffer buf) {
+        int start = buf.position();
+        buf.putLong(seq);
+        buf.put((byte) type.ordinal());
+        buf.putLong(itemId);
+        buf.putLong(bidderId != null ? bidderId : NONE);
+        buf.putLong(amount != null ? amount.unscaledValue().longValueExact() : 0L);
+        buf.putInt(amount != null ? amount.scale() : 0);
+        putTime(buf, endTime);
+        putTime(buf, at);
+        buf.putInt(checksum(buf, start));
+    }
+
+    /**
+     * The record at the buffer's position, or null if what is left is too short
+     * or fails its checksum. Advances the position only on success.
+     */
+    static AuctionLogRecord readFrom(ByteBuffer buf) {
+        int start = buf.position();
+        if (buf.remaining() < BYTES || checksum(buf, start) != buf.getInt(start + BYTES - 4)) {
+            return null;
+        }
+        long seq = buf.getLong();
+        Type type = Type.values()[buf.get()];
+        long itemId = buf.getLong();
+        long bidderId = buf.getLong();
+        long unscaled = buf.getLong();
+        int scale = buf.getInt();
+        LocalDateTime endTime = getTime(buf);
+        LocalDateTime at = getTime(buf);
+        buf.getInt();
+        return new AuctionLogRecord(
+                seq,
+                type,
+                itemId,
+                bidderId != NONE ? bidderId : null,
+                type == Type.BID ? new BigDecimal(BigInteger.valueOf(unscaled), scale) : null,
+                endTime,
+                at
+        );
+    }
+
+    // CRC32 of the BYTES - 4 bytes starting at start
+    private static int checksum(ByteBuffer buf, int start) {
+        ByteBuffer body = buf.duplicate();
+        body.limit(start + BYTES - 4).position(start);
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        return (int) crc.getValue();
+    }
+
+    private static void putTime(ByteBuffer buf, LocalDateTime time) {
+        buf.putLong(time != null ? time.toEpochSecond(ZoneOffset.UTC) : NONE);
+        buf.putInt(time != null ? time.getNano() : 0);
+    }
+
+    private static LocalDateTime getTime(ByteBuffer buf) {
+        long seconds = buf.getLong();
+        int nanos = buf.getInt();
+        return seconds != NONE ? LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC) : null;
+    }
+}
@@ -0,0 +1,15 @@
+package com.aurora.auctionmid.bid;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Published after an accepted bid has been committed.
+ */
+public record BidAcceptedEvent(
+        Long itemId,
+        Long bidId,
+        Long bidderId,
+        BigDecimal amount,       // new current price
+        LocalDateTime endTime    // after any soft-close extension
+) {}
@@ -0,0 +1,388 @@
+package com.aurora.auctionmid.bid;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind persistence for accepted bids.
+ *
+ * Bids accepted by {@link BidSequencer} are queued here and a single flusher
+ * thread group-commits them: one multi-row INSERT into bids plus one UPDATE per
+ * item, in one transaction, every {@code max-delay-ms} or {@code batch-size}
+ * bids. Each caller's future completes only after its batch has committed.
+ * With the event log on, this is the log's projection into MySQL.
+ *
+ * When a batch fails, the books of its bids are marked stale: they already
+ * count bids MySQL never got. Their later bids still in the queue were
+ * sequenced against those and are failed rather than written, and the next
+ * bid on the item reloads the book from MySQL.
+ */
+@Slf4j
+@Component
+public class BidBatchWriter {
+
+    // never moves a price back down: logged bids can be written again after newer ones,
+    // and a bid from a stale book must not undo one MySQL already has; never changes
+    // the winner of an item that has been paid for
+    private static final String UPDATE_ITEM_SQL = "UPDATE items SET current_price = ?, current_winner_id = ?, "
+            + "end_time = ? WHERE item_id = ? AND current_price < ? AND payment_status <> 'PAID'";
+
+    // book is set for bids from the sequencer; bidId and bidTime for bids from the event log
+    record PendingBid(Long bidId, AuctionBook book, Long itemId, Long bidderId, BigDecimal amount,
+                      LocalDateTime endTime, LocalDateTime bidTime, CompletableFuture<BidResponse> committed) {}
+
+    private record Written(List<PendingBid> bids, List<Long> bidIds) {}
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long maxDelayNanos;
+    private final BlockingQueue<PendingBid> queue;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public BidBatchWriter(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            @Value("${auction.bid-engine.write-behind.enabled:true}") boolean enabled,
+            @Value("${auction.bid-engine.write-behind.batch-size:200}") int batchSize,
+            @Value("${auction.bid-engine.write-behind.max-delay-ms:5}") long maxDelayMs,
+            @Value("${auction.bid-engine.write-behind.queue-capacity:10000}") int queueCapacity
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMs);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        flusher = new Thread(this::run, "bid-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (flusher == null) {
+            return;
+        }
+        running = false;
+        flusher.interrupt();
+        flusher.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    /**
+     * Queue an accepted bid. Blocks when the queue is full, which pushes back
+     * on the bid path instead of growing without bound.
+     */
+    CompletableFuture<BidResponse> submit(AuctionBook book, Long bidderId, BigDecimal amount, LocalDateTime endTime) {
+        return enqueue(new PendingBid(null, book, book.getItemId(), bidderId, amount, endTime, null,
+                new CompletableFuture<>()));
+    }
+
+    /**
+     * Queue a bid already recorded in the {@link BidEventLog}, keeping its log
+     * sequence as bid_id. Writing it twice is harmless, so the log can replay
+     * anything not known to be committed.
+     */
+    CompletableFuture<BidResponse> submitLogged(long bidId, Long itemId, Long bidderId, BigDecimal amount,
+                                                LocalDateTime endTime, LocalDateTime bidTime) {
+        return enqueue(new PendingBid(bidId, null, itemId, bidderId, amount, endTime, bidTime,
+                new CompletableFuture<>()));
+    }
+
+    /**
+     * Write one logged bid in a transaction of its own, on the calling thread: a
+     * retry that keeps failing then neither waits behind nor fails a shared batch.
+     * The returned future is already complete.
+     */
+    CompletableFuture<BidResponse> writeLogged(long bidId, Long itemId, Long bidderId, BigDecimal amount,
+                                               LocalDateTime endTime, LocalDateTime bidTime) {
+        PendingBid pending = new PendingBid(bidId, null, itemId, bidderId, amount, endTime, bidTime,
+                new CompletableFuture<>());
+        flush(List.of(pending));
+        return pending.committed();
+    }
+
+    private CompletableFuture<BidResponse> enqueue(PendingBid pending) {
+        try {
+            queue.put(pending);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while queueing bid", ex);
+        }
+        return pending.committed();
+    }
+
+    private void run() {
+        List<PendingBid> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                collect(batch);
+            } catch (InterruptedException ex) {
+                // shutting down: fall through and flush whatever we already hold
+                queue.drainTo(batch, batchSize - batch.size());
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Wait for the first bid, then keep collecting until the batch is full
+     * or max-delay has passed since that first bid.
+     */
+    private void collect(List<PendingBid> batch) throws InterruptedException {
+        PendingBid head = queue.poll(100, TimeUnit.MILLISECONDS);
+        if (head == null) {
+            return;
+        }
+        batch.add(head);
+        long deadline = System.nanoTime() + maxDelayNanos;
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            if (batch.size() >= batchSize) {
+                break;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            PendingBid next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<PendingBid> batch) {
+        List<PendingBid> live = new ArrayList<>(batch.size());
+        for (PendingBid p : batch) {
+            if (p.book() != null && p.book().isStale()) {
+                // sequenced after a bid of the same book that never reached MySQL
+                p.committed().completeExceptionally(new IllegalStateException("Bid was not recorded"));
+            } else {
+                live.add(p);
+            }
+        }
+        if (live.isEmpty()) {
+            return;
+        }
+
+        Written written;
+        try {
+            written = transactionTemplate.execute(tx -> {
+                Set<Long> outbid = updateItems(live);
+                List<PendingBid> bids = live;
+                if (!outbid.isEmpty()) {
+                    bids = live.stream().filter(p -> !outbid.contains(p.itemId())).toList();
+                }
+                return new Written(bids, insertBids(bids));
+            });
+        } catch (RuntimeException ex) {
+            log.error("Failed to flush {} bids", live.size(), ex);
+            live.forEach(p -> reject(p, ex));
+            return;
+        }
+
+        for (int i = 0; i < written.bids().size(); i++) {
+            PendingBid p = written.bids().get(i);
+            p.committed().complete(new BidResponse(
+                    written.bidIds().get(i),
+                    p.itemId(),
+                    p.bidderId(),
+                    p.amount(),
+                    p.bidTime()   // null: bid_time is set by the DB default
+            ));
+        }
+        if (written.bids().size() < live.size()) {
+            // MySQL was already at or above these: their book was stale
+            live.stream()
+                    .filter(p -> !written.bids().contains(p))
+                    .forEach(p -> reject(p, new IllegalArgumentException("Bid must be higher than current price")));
+        }
+    }
+
+    private static void reject(PendingBid p, RuntimeException cause) {
+        if (p.book() != null) {
+            p.book().setStale(true);
+        }
+        p.committed().completeExceptionally(cause);
+    }
+
+    /**
+     * Bid ids in batch order: generated by the DB, or the log sequence for
+     * logged bids.
+     */
+    private List<Long> insertBids(List<PendingBid> batch) {
+        List<PendingBid> generated = new ArrayList<>(batch.size());
+        List<PendingBid> logged = new ArrayList<>();
+        for (PendingBid p : batch) {
+            (p.bidId() == null ? generated : logged).add(p);
+        }
+        Iterator<Long> generatedIds = generated.isEmpty()
+                ? Collections.emptyIterator()
+                : insertGenerated(generated).iterator();
+        if (!logged.isEmpty()) {
+            insertLogged(logged);
+        }
+
+        List<Long> ids = new ArrayList<>(batch.size());
+        for (PendingBid p : batch) {
+            ids.add(p.bidId() != null ? p.bidId() : generatedIds.next());
+        }
+        return ids;
+    }
+
+    private List<Long> insertGenerated(List<PendingBid> batch) {
+        StringBuilder sql = new StringBuilder("INSERT INTO bids (item_id, bidder_id, amount) VALUES ");
+        for (int i = 0; i < batch.size(); i++) {
+            sql.append(i == 0 ? "(?, ?, ?)" : ", (?, ?, ?)");
+        }
+
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(sql.toString(), Statement.RETURN_GENERATED_KEYS);
+            int col = 1;
+            for (PendingBid p : batch) {
+                ps.setLong(col++, p.itemId());
+                ps.setLong(col++, p.bidderId());
+                ps.setBigDecimal(col++, p.amount());
+            }
+            return ps;
+        }, keys);
+
+        List<Long> ids = new ArrayList<>(batch.size());
+        for (Map<String, Object> row : keys.getKeyList()) {
+            ids.add(((Number) row.values().iterator().next()).longValue());
+        }
+        if (ids.size() != batch.size()) {
+            throw new IllegalStateException(
+                    "Expected " + batch.size() + " generated bid ids, got " + ids.size());
+        }
+        return ids;
+    }
+
+    /**
+     * A bid_id already in bids is fine only if it is this very bid, written by
+     * an earlier attempt; a different bid under the same id means two writers
+     * handed out the same sequence, and fails the batch rather than drop one.
+     */
+    private void insertLogged(List<PendingBid> batch) {
+        try {
+            insertLoggedRows(batch);
+            return;
+        } catch (DuplicateKeyException ex) {
+            log.info("Some of {} logged bids are already in MySQL; checking them", batch.size());
+        }
+
+        Map<Long, PendingBid> byId = new LinkedHashMap<>();
+        batch.forEach(p -> byId.put(p.bidId(), p));
+        String in = String.join(", ", Collections.nCopies(byId.size(), "?"));
+        jdbcTemplate.query("SELECT bid_id, item_id, bidder_id, amount FROM bids WHERE bid_id IN (" + in + ")",
+                rs -> {
+                    PendingBid p = byId.remove(rs.getLong("bid_id"));
+                    if (p.itemId() != rs.getLong("item_id") || p.bidderId() != rs.getLong("bidder_id")
+                            || p.amount().compareTo(rs.getBigDecimal("amount")) != 0) {
+                        throw new IllegalStateException("bid_id " + p.bidId() + " already belongs to another bid");
+                    }
+                }, byId.keySet().toArray());
+        if (!byId.isEmpty()) {
+            insertLoggedRows(new ArrayList<>(byId.values()));
+        }
+    }
+
+    private void insertLoggedRows(List<PendingBid> batch) {
+        StringBuilder sql = new StringBuilder("INSERT INTO bids (bid_id, item_id, bidder_id, amount, bid_time) VALUES ");
+        for (int i = 0; i < batch.size(); i++) {
+            sql.append(i == 0 ? "(?, ?, ?, ?, ?)" : ", (?, ?, ?, ?, ?)");
+        }
+
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(sql.toString());
+            int col = 1;
+            for (PendingBid p : batch) {
+                ps.setLong(col++, p.bidId());
+                ps.setLong(col++, p.itemId());
+                ps.setLong(col++, p.bidderId());
+                ps.setBigDecimal(col++, p.amount());
+                ps.setObject(col++, p.bidTime());
+            }
+            return ps;
+        });
+    }
+
+    /**
+     * One UPDATE per item per flush. Bids for an item are queued in the order
+     * the sequencer accepted them, so the highest is the last one and carries
+     * the latest (possibly soft-close extended) endTime; a retried logged bid
+     * can arrive out of order, hence the max rather than the last.
+     *
+     * Returns the items whose sequencer bids matched no row: MySQL already had
+     * an equal or higher price, so none of that item's bids in the batch count.
+     * A logged bid matching nothing is a replay of one already applied.
+     */
+    private Set<Long> updateItems(List<PendingBid> batch) {
+        Map<Long, PendingBid> leading = new LinkedHashMap<>();
+        for (PendingBid p : batch) {
+            leading.merge(p.itemId(), p, (a, b) -> b.amount().compareTo(a.amount()) >= 0 ? b : a);
+        }
+
+        List<PendingBid> leaders = new ArrayList<>(leading.values());
+        List<Object[]> rows = new ArrayList<>(leaders.size());
+        for (PendingBid p : leaders) {
+            rows.add(new Object[]{p.amount(), p.bidderId(), p.endTime(), p.itemId(), p.amount()});
+        }
+        int[] updated = jdbcTemplate.batchUpdate(UPDATE_ITEM_SQL, rows);
+
+        Set<Long> outbid = new HashSet<>();
+        for (int i = 0; i < leaders.size(); i++) {
+            // SUCCESS_NO_INFO (-2) from a rewritten batch counts as applied
+            if (updated[i] == 0 && leaders.get(i).book() != null) {
+                outbid.add(leaders.get(i).itemId());
+            }
+        }
+        return outbid;
+    }
+}
@@ -33,15 +33,54 @@ public class BidController {
         }
     }
 
+    /**
+     * POST /api/items/{itemId}/proxy-bids
+     * Body: { "bidderId": 5, "maxAmount": 250.00, "increment": 5.00 }
+     * Bid automatically up to maxAmount; raising an existing maximum is allowed.
+     */
+    @PostMapping("/{itemId}/proxy-bids")
+    public ResponseEntity<?> placeProxyBid(@PathVariable Long itemId,
+                                           @RequestBody ProxyBidRequest request) {
+        try {
+            return ResponseEntity.ok(bidService.placeProxyBid(itemId, request));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().body(Map.of("error", ex.getMessage()));
+        }
+    }
+
     /**
      * GET /api/items/{itemId}/bids
-     * List bids for an item (highest first).
+     * Top bids for an item (highest first); see /bids/history for the rest.
      */
     @GetMapping("/{itemId}/bids")
     public List<BidResponse> getBids(@PathVariable Long itemId) {
         return bidService.getBidsForItem(itemId);
     }
 
+    /**
+     * GET /api/items/{itemId}/bids/ladder
+     * Top bids plus the total number of bids.
+     */
+    @GetMapping("/{itemId}/bids/ladder")
+    public BidLadder.Ladder getBidLadder(@PathVariable Long itemId) {
+        return bidService.getBidLadder(itemId);
+    }
+
+    /**
+     * GET /api/items/{itemId}/bids/history?cursor=...&limit=50
+     * Full bid history, highest first, paginated.
+     */
+    @GetMapping("/{itemId}/bids/history")
+    public ResponseEntity<?> getBidHistory(@PathVariable Long itemId,
+                                           @RequestParam(name = "cursor", required = false) String cursor,
+                                           @RequestParam(name = "limit", required = false) Integer limit) {
+        try {
+            return ResponseEntity.ok(bidService.getBidHistory(itemId, cursor, limit));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().body(Map.of("error", ex.getMessage()));
+        }
+    }
+
     /**
      * GET /api/items/{itemId}/dutch/price
      * Get current price for a DUTCH auction.
@@ -0,0 +1,31 @@
+package com.aurora.auctionmid.bid;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position of the last bid of a history page: (amount, bidId), encoded as an
+ * opaque URL-safe string for clients.
+ */
+record BidCursor(BigDecimal amount, Long bidId) {
+
+    String encode() {
+        String raw = amount.toPlainString() + "|" + bidId;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static BidCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.indexOf('|');
+            return new BidCursor(
+                    new BigDecimal(raw.substring(0, sep)),
+                    Long.parseLong(raw.substring(sep + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException ex) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
@@ -7,7 +7,10 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "bids")
+@Table(name = "bids", indexes = {
+        // top-K ladder loads and bid history pages
+        @Index(name = "idx_bids_item_amount", columnList = "item_id, amount DESC")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,652 @@
+package com.aurora.auctionmid.bid;
+
+import com.aurora.auctionmid.cluster.ItemShardRing;
+import com.aurora.auctionmid.item.ItemStatusChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Append-only local log of accepted bids and auction closes/payments.
+ *
+ * With {@code auction.bid-engine.event-log.enabled}, a bid is acknowledged as
+ * soon as its record is on disk, and MySQL catches up afterwards: each durable
+ * bid is projected through {@link BidBatchWriter} with its log sequence as
+ * bid_id, so writing it twice is harmless. Appends only copy into a buffer;
+ * one syncer thread writes the buffer to the current segment file and fsyncs
+ * once for everything it took (group commit).
+ *
+ * A bid's {@link BidAcceptedEvent} is published here once its projection
+ * commits, not when it is acknowledged, so listeners that fall back to MySQL
+ * (ladder and snapshot loads) always find it there.
+ *
+ * Every snapshot-interval the books in {@link BidSequencer} are snapshotted, and
+ * segments that are both snapshotted and projected are deleted. On startup the
+ * newest snapshot plus the log after it rebuild the books, and bids past the
+ * projection watermark are written to MySQL again before traffic is served.
+ *
+ * A bid whose record could not be written was already counted by its book.
+ * The next bid on that item first rebuilds the book ({@link #recover}) from the
+ * item row plus the item's logged bids that MySQL doesn't have yet, since the
+ * row alone lags the log.
+ *
+ * A projection that fails is retried on its own, with exponential backoff, up
+ * to MAX_PROJECT_ATTEMPTS times. One that can never commit (a non-transient
+ * database error, or retries used up) is dead-lettered: logged, dropped from the
+ * projection queue, and its item's book rebuilt like after a failed append.
+ */
+@Slf4j
+@Component
+public class BidEventLog {
+
+    private static final ZoneId AUCTION_ZONE = ZoneId.of("America/Toronto");
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final int BUFFER_RECORDS = 16_384;
+    private static final long RETRY_DELAY_MS = 1000;
+    private static final int MAX_PROJECT_ATTEMPTS = 8;
+    private static final long DURABLE_WAIT_MS = 5000;
+
+    private record Appended(AuctionLogRecord record, CompletableFuture<BidResponse> ack) {}
+
+    private final BidSequencer bidSequencer;
+    private final BidBatchWriter bidBatchWriter;
+    private final JdbcTemplate jdbcTemplate;
+    private final ItemShardRing shardRing;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final Path dir;
+    private final long segmentBytes;
+    private final boolean fsync;
+    private final long snapshotIntervalMillis;
+    private final long replayTimeoutMillis;
+    private final Timer syncTimer;
+
+    // appenders fill `active`; the syncer swaps it for `spare` and writes that out
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition drained = lock.newCondition();
+    private ByteBuffer active;
+    private ByteBuffer spare;
+    private List<Appended> activeRecords = new ArrayList<>();
+    private List<Appended> spareRecords = new ArrayList<>();
+    private long lastSeq;
+    private volatile long durableSeq;
+    private volatile boolean running;
+
+    // bids in the log (or on their way to it) but not yet committed to MySQL, by seq
+    private final ConcurrentSkipListMap<Long, AuctionLogRecord> unprojected = new ConcurrentSkipListMap<>();
+    // items with a bid whose record failed to write; their books count it and must be rebuilt
+    private final Set<Long> failedItems = ConcurrentHashMap.newKeySet();
+    // segment files by first seq; the syncer adds, snapshots trim
+    private final ConcurrentSkipListMap<Long, Path> segments = new ConcurrentSkipListMap<>();
+
+    // syncer thread only
+    private FileChannel channel;
+    private long channelBytes;
+
+    private Thread syncer;
+    private final ScheduledExecutorService background = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "event-log-background");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public BidEventLog(
+            BidSequencer bidSequencer,
+            BidBatchWriter bidBatchWriter,
+            JdbcTemplate jdbcTemplate,
+            ItemShardRing shardRing,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${auction.bid-engine.event-log.enabled:false}") boolean enabled,
+            @Value("${auction.bid-engine.event-log.dir:data/event-log}") String dir,
+            @Value("${auction.bid-engine.event-log.segment-bytes:67108864}") long segmentBytes,
+            @Value("${auction.bid-engine.event-log.fsync:true}") boolean fsync,
+            @Value("${auction.bid-engine.event-log.snapshot-interval-ms:60000}") long snapshotIntervalMillis,
+            @Value("${auction.bid-engine.event-log.replay-timeout-ms:60000}") long replayTimeoutMillis
+    ) {
+        this.bidSequencer = bidSequencer;
+        this.bidBatchWriter = bidBatchWriter;
+        this.jdbcTemplate = jdbcTemplate;
+        this.shardRing = shardRing;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.dir = Paths.get(dir);
+        this.segmentBytes = segmentBytes;
+        this.fsync = fsync;
+        this.snapshotIntervalMillis = snapshotIntervalMillis;
+        this.replayTimeoutMillis = replayTimeoutMillis;
+        this.syncTimer = Timer.builder("auction.event-log.sync")
+                .description("Writing (and fsyncing) one group of log records")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("auction.event-log.projection.lag", this, BidEventLog::projectionLag)
+                .description("Log records not yet known to be committed to MySQL")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @PostConstruct
+    void start() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        if (!bidSequencer.isEnabled() || !bidBatchWriter.isEnabled()) {
+            throw new IllegalStateException("The event log needs the bid engine with write-behind enabled");
+        }
+        if (shardRing.isEnabled()) {
+            // each node would number its bids from the same MAX(bid_id) and hand out the same bid_ids
+            throw new IllegalStateException("The event log can't run in partitioned mode (auction.cluster.enabled)");
+        }
+        Files.createDirectories(dir);
+        active = ByteBuffer.allocateDirect(BUFFER_RECORDS * AuctionLogRecord.BYTES);
+        spare = ByteBuffer.allocateDirect(BUFFER_RECORDS * AuctionLogRecord.BYTES);
+
+        long snapshotSeq = 0;
+        long projectedThrough = 0;
+        LogSnapshot snapshot = latestSnapshot();
+        if (snapshot != null) {
+            snapshot.books().forEach(bidSequencer::restore);
+            snapshotSeq = snapshot.seq();
+            projectedThrough = snapshot.projectedThrough();
+        }
+        long replayedTo = replay(snapshotSeq, projectedThrough);
+        // a sequence is also a bid_id, so never hand out one MySQL already has
+        lastSeq = Math.max(Math.max(replayedTo, snapshotSeq), maxBidId());
+        durableSeq = lastSeq;
+
+        running = true;
+        syncer = new Thread(this::runSyncer, "event-log-sync");
+        syncer.setDaemon(true);
+        syncer.start();
+        background.scheduleWithFixedDelay(this::snapshot,
+                snapshotIntervalMillis, snapshotIntervalMillis, TimeUnit.MILLISECONDS);
+
+        // MySQL must match the log before the expiry scheduler and readers look at it
+        awaitProjected();
+        log.info("Event log open at seq {} in {}", lastSeq, dir.toAbsolutePath());
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (syncer == null) {
+            return;
+        }
+        background.shutdownNow();
+        lock.lock();
+        try {
+            running = false;
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        syncer.join(TimeUnit.SECONDS.toMillis(5));
+        snapshot();
+        try {
+            closeSegment();
+        } catch (IOException ex) {
+            log.warn("Failed to close event-log segment", ex);
+        }
+    }
+
+    /**
+     * Record an accepted bid. Called under the item's book lock, so an item's
+     * records follow the order its bids were accepted in. The future completes
+     * with the bid (bidId = log sequence) once the record is on disk.
+     */
+    CompletableFuture<BidResponse> appendBid(Long itemId, Long bidderId, BigDecimal amount, LocalDateTime endTime) {
+        CompletableFuture<BidResponse> ack = new CompletableFuture<>();
+        append(AuctionLogRecord.Type.BID, itemId, bidderId, amount, endTime, ack);
+        return ack;
+    }
+
+    /**
+     * Closes and payments are already in MySQL when this runs; the record lets
+     * replay close the book without asking the DB.
+     */
+    @EventListener
+    public void onStatusChanged(ItemStatusChangedEvent event) {
+        if (!running) {
+            return;
+        }
+        AuctionLogRecord.Type type;
+        if ("PAID".equalsIgnoreCase(event.paymentStatus())) {
+            type = AuctionLogRecord.Type.PAID;
+        } else if ("ENDED".equalsIgnoreCase(event.status())) {
+            type = AuctionLogRecord.Type.ENDED;
+        } else {
+            return;
+        }
+        try {
+            append(type, event.itemId(), null, null, null, null);
+        } catch (IllegalStateException closed) {
+            log.warn("Event log closed; item {} {} not recorded", event.itemId(), type);
+        }
+    }
+
+    private void append(AuctionLogRecord.Type type, Long itemId, Long bidderId, BigDecimal amount,
+                        LocalDateTime endTime, CompletableFuture<BidResponse> ack) {
+        LocalDateTime now = ZonedDateTime.now(AUCTION_ZONE).toLocalDateTime();
+        lock.lock();
+        try {
+            if (!running) {
+                throw new IllegalStateException("Event log is not open");
+            }
+            while (active.remaining() < AuctionLogRecord.BYTES) {
+                // the syncer is behind; push back on the bid path
+                drained.awaitUninterruptibly();
+            }
+            AuctionLogRecord record = new AuctionLogRecord(++lastSeq, type, itemId, bidderId, amount, endTime, now);
+            record.writeTo(active);
+            activeRecords.add(new Appended(record, ack));
+            if (type == AuctionLogRecord.Type.BID) {
+                unprojected.put(record.seq(), record);
+            }
+            if (activeRecords.size() == 1) {
+                notEmpty.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void runSyncer() {
+        while (true) {
+            ByteBuffer chunk;
+            List<Appended> records;
+            lock.lock();
+            try {
+                while (activeRecords.isEmpty() && running) {
+                    notEmpty.awaitUninterruptibly();
+                }
+                if (activeRecords.isEmpty()) {
+                    return;   // stopped and drained
+                }
+                chunk = active;
+                active = spare;
+                spare = chunk;
+                records = activeRecords;
+                activeRecords = spareRecords;
+                spareRecords = records;
+                drained.signalAll();
+            } finally {
+                lock.unlock();
+            }
+
+            chunk.flip();
+            try {
+                write(chunk, records.get(0).record().seq());
+                durableSeq = records.get(records.size() - 1).record().seq();
+                records.forEach(this::acknowledge);
+            } catch (IOException | RuntimeException ex) {
+                log.error("Event-log write failed; rejecting {} records", records.size(), ex);
+                fail(records, ex);
+            }
+            chunk.clear();
+            records.clear();
+        }
+    }
+
+    private void write(ByteBuffer chunk, long firstSeq) throws IOException {
+        long start = System.nanoTime();
+        if (channel == null || (channelBytes > 0 && channelBytes + chunk.remaining() > segmentBytes)) {
+            roll(firstSeq);
+        }
+        while (chunk.hasRemaining()) {
+            channelBytes += channel.write(chunk);
+        }
+        if (fsync) {
+            channel.force(false);
+        }
+        syncTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private void roll(long firstSeq) throws IOException {
+        closeSegment();
+        // an existing file of that name holds nothing readable past the last replayed seq
+        Path file = dir.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, firstSeq, SEGMENT_SUFFIX));
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+        channelBytes = 0;
+        segments.put(firstSeq, file);
+    }
+
+    private void closeSegment() throws IOException {
+        if (channel != null) {
+            FileChannel closing = channel;
+            channel = null;
+            closing.force(false);
+            closing.close();
+        }
+    }
+
+    private void acknowledge(Appended appended) {
+        AuctionLogRecord r = appended.record();
+        if (appended.ack() != null) {
+            appended.ack().complete(new BidResponse(r.seq(), r.itemId(), r.bidderId(), r.amount(), r.at()));
+        }
+        if (r.type() == AuctionLogRecord.Type.BID) {
+            project(r);
+        }
+    }
+
+    private void fail(List<Appended> records, Exception cause) {
+        try {
+            // a partial write may have left a torn record; carry on in a fresh segment
+            closeSegment();
+        } catch (IOException ex) {
+            log.warn("Failed to close event-log segment", ex);
+        }
+        for (Appended a : records) {
+            if (unprojected.remove(a.record().seq()) != null) {
+                // after the removal, so a rebuild that sees the flag no longer sees the record
+                failedItems.add(a.record().itemId());
+            }
+            if (a.ack() != null) {
+                a.ack().completeExceptionally(new IllegalStateException("Could not record bid", cause));
+            }
+        }
+    }
+
+    /**
+     * Under the item's book lock, before a bid is checked: if one of the item's
+     * records failed to write, reset the book to the item row and re-apply the
+     * item's logged bids MySQL hasn't committed yet.
+     */
+    void recover(AuctionBook book) {
+        Long itemId = book.getItemId();
+        if (!failedItems.remove(itemId)) {
+            return;
+        }
+        // copied before the row is read: a bid projected in between is then in the row
+        List<AuctionLogRecord> pending = unprojected.values().stream()
+                .filter(r -> r.itemId().equals(itemId))
+                .toList();
+        jdbcTemplate.query("SELECT current_price, current_winner_id, end_time FROM items WHERE item_id = ?",
+                rs -> {
+                    book.accept(rs.getBigDecimal("current_price"),
+                            rs.getObject("current_winner_id", Long.class),
+                            rs.getObject("end_time", LocalDateTime.class));
+                }, itemId);
+        for (AuctionLogRecord r : pending) {
+            if (r.amount().compareTo(book.getCurrentPrice()) > 0) {
+                book.accept(r.amount(), r.bidderId(), r.endTime());
+            }
+        }
+        log.info("Rebuilt book of item {} from MySQL and {} logged bids", itemId, pending.size());
+    }
+
+    /**
+     * Wait until every bid logged for the item so far is in MySQL, so a read of
+     * its row (say, the winner, before payment) isn't behind the log.
+     *
+     * @throws IllegalStateException if that takes longer than a few seconds
+     */
+    public void awaitProjected(Long itemId) {
+        if (!enabled) {
+            return;
+        }
+        long upTo = currentSeq();
+        long deadline = System.currentTimeMillis() + DURABLE_WAIT_MS;
+        while (unprojected.headMap(upTo, true).values().stream().anyMatch(r -> r.itemId().equals(itemId))) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new IllegalStateException("Bids on item " + itemId + " are not yet recorded in MySQL");
+            }
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+    }
+
+    /**
+     * Write a durable bid to MySQL in the next shared batch. The logged-bid
+     * UPDATE only ever raises an item's price, so a retry landing after a
+     * newer bid changes nothing.
+     */
+    private void project(AuctionLogRecord r) {
+        bidBatchWriter.submitLogged(r.seq(), r.itemId(), r.bidderId(), r.amount(), r.endTime(), r.at())
+                .whenComplete((bid, ex) -> projected(r, ex, 1));
+    }
+
+    // on the background thread, in a transaction of its own
+    private void retryProjection(AuctionLogRecord r, int attempt) {
+        bidBatchWriter.writeLogged(r.seq(), r.itemId(), r.bidderId(), r.amount(), r.endTime(), r.at())
+                .whenComplete((bid, ex) -> projected(r, ex, attempt));
+    }
+
+    private void projected(AuctionLogRecord r, Throwable ex, int attempt) {
+        if (ex == null) {
+            unprojected.remove(r.seq());
+            eventPublisher.publishEvent(
+                    new BidAcceptedEvent(r.itemId(), r.seq(), r.bidderId(), r.amount(), r.endTime()));
+            return;
+        }
+        Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+        // IllegalStateException: its bid_id already holds a different bid
+        if (cause instanceof NonTransientDataAccessException || cause instanceof IllegalStateException
+                || attempt >= MAX_PROJECT_ATTEMPTS) {
+            deadLetter(r, cause, attempt);
+            return;
+        }
+        long delay = RETRY_DELAY_MS << (attempt - 1);
+        log.warn("Bid {} not yet in MySQL after {} attempts, retrying in {} ms", r.seq(), attempt, delay, cause);
+        background.schedule(() -> retryProjection(r, attempt + 1), delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void deadLetter(AuctionLogRecord r, Throwable cause, int attempts) {
+        log.error("Giving up on projecting bid {} after {} attempts: item {} bidder {} amount {} end {} at {}",
+                r.seq(), attempts, r.itemId(), r.bidderId(), r.amount(), r.endTime(), r.at(), cause);
+        if (unprojected.remove(r.seq()) != null) {
+            // the book counted a bid MySQL won't have; as in fail(), flag after the removal
+            failedItems.add(r.itemId());
+        }
+    }
+
+    /**
+     * Apply the log after the snapshot to the books and re-project the bids
+     * past the watermark. Returns the last sequence found.
+     */
+    private long replay(long snapshotSeq, long projectedThrough) throws IOException {
+        long from = Math.min(snapshotSeq, projectedThrough) + 1;
+        long last = 0;
+        int replayed = 0;
+        List<Path> files = listSegments();
+        for (int i = 0; i < files.size(); i++) {
+            Path file = files.get(i);
+            segments.put(firstSeqOf(file), file);
+            if (i + 1 < files.size() && firstSeqOf(files.get(i + 1)) <= from) {
+                continue;   // entirely before from
+            }
+            try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+                ByteBuffer buf = in.map(FileChannel.MapMode.READ_ONLY, 0, in.size());
+                AuctionLogRecord r;
+                while ((r = AuctionLogRecord.readFrom(buf)) != null) {
+                    last = r.seq();
+                    if (r.seq() >= from) {
+                        replay(r, snapshotSeq, projectedThrough);
+                        replayed++;
+                    }
+                }
+                if (buf.hasRemaining()) {
+                    // torn by a crash mid-write: never acknowledged, and nothing follows it in this file
+                    log.warn("Ignoring {} trailing bytes after seq {} in {}", buf.remaining(), last, file);
+                }
+            }
+        }
+        log.info("Replayed {} event-log records after seq {}", replayed, from - 1);
+        return last;
+    }
+
+    // idempotent: the snapshot or MySQL may already include the record
+    private void replay(AuctionLogRecord r, long snapshotSeq, long projectedThrough) {
+        switch (r.type()) {
+            case BID -> {
+                if (r.seq() > snapshotSeq) {
+                    try {
+                        bidSequencer.withBook(r.itemId(), book -> {
+                            if (r.amount().compareTo(book.getCurrentPrice()) > 0) {
+                                book.accept(r.amount(), r.bidderId(), r.endTime());
+                            }
+                            return null;
+                        });
+                    } catch (IllegalArgumentException notFound) {
+                        log.warn("Event-log bid {} is for unknown item {}", r.seq(), r.itemId());
+                        return;
+                    }
+                }
+                if (r.seq() > projectedThrough) {
+                    unprojected.put(r.seq(), r);
+                    project(r);
+                }
+            }
+            case ENDED -> {
+                if (r.seq() > snapshotSeq) {
+                    bidSequencer.markEnded(r.itemId());
+                }
+            }
+            case PAID -> {
+                // nothing on the bid path depends on payment
+            }
+        }
+    }
+
+    private void awaitProjected() {
+        long deadline = System.currentTimeMillis() + replayTimeoutMillis;
+        while (!unprojected.isEmpty()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new IllegalStateException(
+                        unprojected.size() + " logged bids could not be written to MySQL");
+            }
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+    }
+
+    void snapshot() {
+        try {
+            long seq = currentSeq();
+            long projected = projectedThrough();
+            List<AuctionBook.State> books = bidSequencer.snapshot();
+            // the copies may include records appended after seq; don't persist them before the log has them
+            awaitDurable(currentSeq());
+            Path file = new LogSnapshot(seq, projected, books).write(dir);
+            LogSnapshot.deleteOlderThan(dir, file);
+            trimSegments(Math.min(seq, projected));
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Event-log snapshot failed", ex);
+        }
+    }
+
+    private void awaitDurable(long seq) {
+        long deadline = System.currentTimeMillis() + DURABLE_WAIT_MS;
+        while (durableSeq < seq) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new IllegalStateException("Event log not durable through seq " + seq);
+            }
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+    }
+
+    // a segment can go once the next one starts at or before upTo + 1; the newest always stays
+    private void trimSegments(long upTo) throws IOException {
+        for (Long first : new ArrayList<>(segments.headMap(upTo, true).keySet())) {
+            Long next = segments.higherKey(first);
+            if (next != null && next <= upTo + 1) {
+                Files.deleteIfExists(segments.remove(first));
+            }
+        }
+    }
+
+    private long currentSeq() {
+        lock.lock();
+        try {
+            return lastSeq;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // everything at or below this is in MySQL
+    private long projectedThrough() {
+        lock.lock();
+        try {
+            Map.Entry<Long, AuctionLogRecord> oldest = unprojected.firstEntry();
+            return oldest != null ? oldest.getKey() - 1 : lastSeq;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private double projectionLag() {
+        return running ? currentSeq() - projectedThrough() : 0;
+    }
+
+    private LogSnapshot latestSnapshot() throws IOException {
+        List<Path> files = LogSnapshot.list(dir);
+        for (int i = files.size() - 1; i >= 0; i--) {
+            try {
+                return LogSnapshot.read(files.get(i));
+            } catch (IOException | RuntimeException ex) {
+                log.warn("Skipping unreadable event-log snapshot {}", files.get(i), ex);
+            }
+        }
+        return null;
+    }
+
+    private List<Path> listSegments() throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            stream.forEach(files::add);
+        }
+        files.sort(Comparator.comparing(p -> p.getFileName().toString()));
+        return files;
+    }
+
+    private static long firstSeqOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private long maxBidId() {
+        Long max = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(bid_id), 0) FROM bids", Long.class);
+        return max != null ? max : 0L;
+    }
+}
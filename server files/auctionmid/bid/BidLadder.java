@@ -0,0 +1,127 @@
+package com.aurora.auctionmid.bid;
+
+import com.aurora.auctionmid.cache.BoundedCache;
+import com.aurora.auctionmid.item.ItemRepository;
+import com.aurora.auctionmid.item.ItemStatusChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Top-K bids and total bid count per item, kept in memory for the item page.
+ *
+ * A ladder is cold-loaded with one top-K query plus a count (both served by the
+ * (item_id, amount DESC) index) and then maintained from BidAcceptedEvent, so
+ * reads are O(K) no matter how many bids the item has. Both queries read one
+ * REPEATABLE READ snapshot, so every bid in the loaded top-K is also in its
+ * count, and an event for a bid the ladder already lists is dropped. Bid ids
+ * are not assumed to commit in order (they don't on the legacy path). A bid is
+ * the item's highest when it commits, so one the load already counted is still
+ * in the top-K when its event arrives unless K newer bids committed first.
+ *
+ * Only ACTIVE items with bids are cached, in a size- and TTL-bounded cache
+ * (cache=bid-ladder); ladders of auctions that leave ACTIVE are dropped.
+ */
+@Component
+public class BidLadder {
+
+    private static final ZoneId AUCTION_ZONE = ZoneId.of("America/Toronto");
+
+    private static final Comparator<BidResponse> HIGHEST_FIRST =
+            Comparator.comparing(BidResponse::amount).reversed()
+                    .thenComparing(BidResponse::bidId, Comparator.reverseOrder());
+
+    public record Ladder(List<BidResponse> top, long totalBids) {
+
+        boolean lists(Long bidId) {
+            return top.stream().anyMatch(b -> b.bidId().equals(bidId));
+        }
+
+        Ladder with(BidResponse bid, int k) {
+            List<BidResponse> next = new ArrayList<>(top.size() + 1);
+            next.addAll(top);
+            next.add(bid);
+            next.sort(HIGHEST_FIRST);
+            return new Ladder(List.copyOf(next.subList(0, Math.min(k, next.size()))), totalBids + 1);
+        }
+    }
+
+    // active: whether the item was ACTIVE when loaded; only those are kept
+    private record Loaded(Ladder ladder, boolean active) {}
+
+    private final BidRepository bidRepository;
+    private final ItemRepository itemRepository;
+    private final TransactionTemplate snapshotRead;
+    private final int k;
+    private final BoundedCache<Long, Loaded> ladders;
+
+    public BidLadder(
+            BidRepository bidRepository,
+            ItemRepository itemRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${auction.bid-ladder.size:10}") int k,
+            @Value("${auction.bid-ladder.max-items:10000}") int maxItems,
+            @Value("${auction.bid-ladder.ttl-ms:300000}") long ttlMillis
+    ) {
+        this.bidRepository = bidRepository;
+        this.itemRepository = itemRepository;
+        this.snapshotRead = new TransactionTemplate(transactionManager);
+        this.snapshotRead.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.snapshotRead.setReadOnly(true);
+        this.k = k;
+        this.ladders = new BoundedCache<Long, Loaded>(maxItems, Duration.ofMillis(ttlMillis))
+                .bindTo(meterRegistry, "bid-ladder");
+    }
+
+    public Ladder get(Long itemId) {
+        // a load that a bid event overlaps is returned but not cached
+        return ladders.get(itemId, this::load, l -> l.active() && l.ladder().totalBids() > 0).ladder();
+    }
+
+    @EventListener
+    public void onBidAccepted(BidAcceptedEvent event) {
+        // events fire right after commit, so "now" stands in for the DB-assigned bid_time
+        BidResponse bid = new BidResponse(event.bidId(), event.itemId(), event.bidderId(), event.amount(),
+                ZonedDateTime.now(AUCTION_ZONE).toLocalDateTime());
+        // only ladders already in memory; a cold load will read this bid from the DB
+        ladders.computeIfPresent(event.itemId(), loaded -> loaded.ladder().lists(bid.bidId())
+                ? loaded
+                : new Loaded(loaded.ladder().with(bid, k), loaded.active()));
+    }
+
+    @EventListener
+    public void onStatusChanged(ItemStatusChangedEvent event) {
+        if (!"ACTIVE".equalsIgnoreCase(event.status())) {
+            ladders.invalidate(event.itemId());
+        }
+    }
+
+    private Loaded load(Long itemId) {
+        return snapshotRead.execute(tx -> {
+            long total = bidRepository.countByItemId(itemId);
+            if (total == 0) {
+                return new Loaded(new Ladder(List.of(), 0), false);
+            }
+            List<BidResponse> top = bidRepository
+                    .findByItemIdOrderByAmountDescBidIdDesc(itemId, PageRequest.of(0, k))
+                    .stream()
+                    .map(BidService::toResponse)
+                    .toList();
+            boolean active = itemRepository.findStatus(itemId).map("ACTIVE"::equalsIgnoreCase).orElse(false);
+            return new Loaded(new Ladder(top, total), active);
+        });
+    }
+}
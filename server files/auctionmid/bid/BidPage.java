@@ -0,0 +1,12 @@
+package com.aurora.auctionmid.bid;
+
+import java.util.List;
+
+/**
+ * One page of an item's bid history, highest first.
+ * Pass nextCursor back as ?cursor= for the next page; null means last page.
+ */
+public record BidPage(
+        List<BidResponse> bids,
+        String nextCursor
+) {}
@@ -1,10 +1,28 @@
 package com.aurora.auctionmid.bid;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 public interface BidRepository extends JpaRepository<BidEntity, Long> {
 
     List<BidEntity> findByItemIdOrderByAmountDesc(Long itemId);
+
+    // ---- Served by idx_bids_item_amount (item_id, amount DESC) ----
+
+    List<BidEntity> findByItemIdOrderByAmountDescBidIdDesc(Long itemId, Pageable page);
+
+    long countByItemId(Long itemId);
+
+    @Query("select b from BidEntity b where b.itemId = :itemId "
+            + "and (b.amount < :amount or (b.amount = :amount and b.bidId < :bidId)) "
+            + "order by b.amount desc, b.bidId desc")
+    List<BidEntity> findPageBelow(@Param("itemId") Long itemId,
+                                  @Param("amount") BigDecimal amount,
+                                  @Param("bidId") Long bidId,
+                                  Pageable page);
 }
@@ -0,0 +1,234 @@
+package com.aurora.auctionmid.bid;
+
+import com.aurora.auctionmid.cluster.ItemShardRing;
+import com.aurora.auctionmid.item.ItemEntity;
+import com.aurora.auctionmid.item.ItemRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.function.Predicate;
+
+/**
+ * Single-writer sequencer for bids.
+ *
+ * Each item gets one {@link AuctionBook} holding its current price and winner,
+ * loaded from the DB the first time the item is bid on. All work on a book runs
+ * under that book's lock, so bids on one item are applied strictly one at a time
+ * and losing bids are rejected from memory without a DB round trip. In
+ * partitioned mode only the item's owner node may hold its book.
+ *
+ * Only ACTIVE auctions keep a book: closing one retires its book and proxies,
+ * and an item loaded after it closed gets a throwaway book that rejects the bid.
+ */
+@Component
+public class BidSequencer {
+
+    private final ItemRepository itemRepository;
+    private final ItemShardRing shardRing;
+    private final boolean enabled;
+
+    private final ConcurrentHashMap<Long, AuctionBook> books = new ConcurrentHashMap<>();
+    // proxy bids per item, kept apart from the book so an evicted book's proxies survive the reload;
+    // only the live (not retired) book touches them, under its lock
+    private final ConcurrentHashMap<Long, Map<Long, ProxyBid>> proxies = new ConcurrentHashMap<>();
+
+    public BidSequencer(
+            ItemRepository itemRepository,
+            ItemShardRing shardRing,
+            @Value("${auction.bid-engine.enabled:true}") boolean enabled
+    ) {
+        this.itemRepository = itemRepository;
+        this.shardRing = shardRing;
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Run {@code action} with exclusive access to the item's book.
+     * Throws IllegalArgumentException if the item does not exist.
+     */
+    <T> T withBook(Long itemId, Function<AuctionBook, T> action) {
+        while (true) {
+            AuctionBook book = bookFor(itemId);
+            book.lock.lock();
+            try {
+                if (book.isStale()) {
+                    // a write it already counted failed; reload from what MySQL actually has
+                    retire(book);
+                } else if (!book.isRetired()) {
+                    return action.apply(book);
+                }
+                // evicted while we waited for the lock; go again with the reloaded book
+            } finally {
+                book.lock.unlock();
+            }
+        }
+    }
+
+    public boolean isLoaded(Long itemId) {
+        return books.containsKey(itemId);
+    }
+
+    /**
+     * The item is already ENDED in MySQL (event-log replay, a batched expiry):
+     * drop its book and proxies, so a later bid reloads the closed row.
+     */
+    public void markEnded(Long itemId) {
+        while (true) {
+            AuctionBook book = books.get(itemId);
+            if (book == null) {
+                proxies.remove(itemId);
+                return;
+            }
+            book.lock.lock();
+            try {
+                if (!book.isRetired()) {
+                    book.setStatus("ENDED");
+                    proxies.remove(itemId);
+                    retire(book);
+                    return;
+                }
+            } finally {
+                book.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Manual end: flip the row to ENDED while holding the book's lock, so no
+     * bid slips in behind the update. True only if this call changed the row.
+     */
+    public boolean end(Long itemId) {
+        return close(itemId, book -> true, () -> itemRepository.endIfActive(itemId));
+    }
+
+    /**
+     * Expiry: close the item if its book says it is due at {@code now}. Decided
+     * under the book's lock on the book's deadline, so a soft-close extension
+     * not yet written to MySQL keeps the auction open; with no book loaded the
+     * row's end_time decides. True only if this call flipped the row to ENDED.
+     */
+    public boolean endIfDue(Long itemId, LocalDateTime now) {
+        // extended: the extending bid rescheduled it
+        return close(itemId, book -> book.getEndTime() != null && !book.getEndTime().isAfter(now),
+                () -> itemRepository.endIfDue(itemId, now));
+    }
+
+    // never loads a book: an item nobody bid on is closed on its row alone
+    private boolean close(Long itemId, Predicate<AuctionBook> due, IntSupplier update) {
+        while (true) {
+            AuctionBook book = books.get(itemId);
+            if (book == null) {
+                boolean closed = update.getAsInt() > 0;
+                if (closed) {
+                    markEnded(itemId);   // and a book a bid loaded meanwhile
+                }
+                return closed;
+            }
+            book.lock.lock();
+            try {
+                if (book.isStale()) {
+                    retire(book);   // MySQL lacks bids it counted; go by the row instead
+                } else if (!book.isRetired()) {
+                    if (!"ACTIVE".equalsIgnoreCase(book.getStatus()) || !due.test(book)) {
+                        return false;
+                    }
+                    int updated = update.getAsInt();
+                    book.setStatus("ENDED");
+                    proxies.remove(itemId);
+                    retire(book);
+                    return updated > 0;
+                }
+            } finally {
+                book.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Every loaded ACTIVE book's state, each copied under its own lock.
+     */
+    List<AuctionBook.State> snapshot() {
+        List<AuctionBook.State> states = new ArrayList<>(books.size());
+        for (AuctionBook book : books.values()) {
+            book.lock.lock();
+            try {
+                if (!book.isRetired() && "ACTIVE".equalsIgnoreCase(book.getStatus())) {
+                    states.add(book.state());
+                }
+            } finally {
+                book.lock.unlock();
+            }
+        }
+        return states;
+    }
+
+    /**
+     * Install a book rebuilt from an event-log snapshot, unless the item is
+     * already loaded or the auction was closed (older snapshots kept those).
+     */
+    void restore(AuctionBook.State state) {
+        if (!"ACTIVE".equalsIgnoreCase(state.status())) {
+            return;
+        }
+        books.putIfAbsent(state.itemId(),
+                AuctionBook.of(state, proxies.computeIfAbsent(state.itemId(), id -> new HashMap<>())));
+    }
+
+    /**
+     * Drop the cached book so the next bid reloads the item from the DB.
+     * Done under the book's lock, so no bid is half-applied to it, and the
+     * book is marked retired so threads already queued on that lock retry
+     * against the reloaded book instead of running on a second live copy.
+     */
+    public void evict(Long itemId) {
+        AuctionBook book = books.get(itemId);
+        if (book == null) {
+            return;
+        }
+        book.lock.lock();
+        try {
+            retire(book);
+        } finally {
+            book.lock.unlock();
+        }
+    }
+
+    // caller holds the book's lock
+    private void retire(AuctionBook book) {
+        book.setRetired(true);
+        books.remove(book.getItemId(), book);
+    }
+
+    private AuctionBook bookFor(Long itemId) {
+        AuctionBook book = books.get(itemId);
+        if (book != null) {
+            return book;
+        }
+        if (!shardRing.isLocal(itemId)) {
+            // a second book on another node would accept bids against its own price
+            throw new IllegalStateException("Item " + itemId + " is owned by " + shardRing.ownerOf(itemId));
+        }
+        // Load outside the map so a slow query doesn't block other items
+        ItemEntity item = itemRepository.findById(itemId)
+                .orElseThrow(() -> new IllegalArgumentException("Item not found"));
+        if (!"ACTIVE".equalsIgnoreCase(item.getStatus())) {
+            // closed: good for rejecting this one bid, never kept
+            return AuctionBook.of(item);
+        }
+        AuctionBook loaded = AuctionBook.of(item, proxies.computeIfAbsent(itemId, id -> new HashMap<>()));
+        AuctionBook existing = books.putIfAbsent(itemId, loaded);
+        return existing != null ? existing : loaded;
+    }
+}
@@ -1,15 +1,27 @@
 package com.aurora.auctionmid.bid;
 
+import com.aurora.auctionmid.item.AuctionExpiryScheduler;
 import com.aurora.auctionmid.item.ItemEntity;
 import com.aurora.auctionmid.item.ItemRepository;
+import com.aurora.auctionmid.metrics.AuctionMetrics;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
@@ -17,77 +29,284 @@ public class BidService {
 
     private final BidRepository bidRepository;
     private final ItemRepository itemRepository;
+    private final BidSequencer bidSequencer;
+    private final BidBatchWriter bidBatchWriter;
+    private final BidEventLog bidEventLog;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BidLadder bidLadder;
+    private final AuctionMetrics auctionMetrics;
+    private final AuctionExpiryScheduler expiryScheduler;
 
     // Use the same fixed zone as ItemService
     private static final ZoneId AUCTION_ZONE = ZoneId.of("America/Toronto");
 
-    private void refreshStatusIfNeeded(ItemEntity item) {
-        if (item == null) return;
-        if (!"ACTIVE".equalsIgnoreCase(item.getStatus())) {
-            return;
+    private static final int DEFAULT_HISTORY_PAGE = 50;
+    private static final int MAX_HISTORY_PAGE = 200;
+
+    // used when a proxy bid doesn't name its own increment
+    @Value("${auction.proxy.default-increment:1.00}")
+    private BigDecimal defaultProxyIncrement;
+
+    @Value("${auction.soft-close.enabled:false}")
+    private boolean softCloseEnabled;
+
+    @Value("${auction.soft-close.window-seconds:120}")
+    private long softCloseWindowSeconds;
+
+    @Value("${auction.soft-close.extend-seconds:120}")
+    private long softCloseExtendSeconds;
+
+    public BidResponse placeBid(Long itemId, BidRequest request) {
+        return auctionMetrics.time("auction.bid.place", () -> acceptBid(itemId, request));
+    }
+
+    private BidResponse acceptBid(Long itemId, BidRequest request) {
+        List<CompletableFuture<BidResponse>> placed = new ArrayList<>(3);
+        LocalDateTime endTime;
+        if (bidSequencer.isEnabled()) {
+            endTime = withBook(itemId, book -> {
+                place(book, request.bidderId(), checkBid(book, request), placed);
+                // standing proxies answer the new price straight away
+                placeProxyBids(book, placed);
+                return book.getEndTime();
+            });
+        } else {
+            ItemEntity item = itemRepository.findById(itemId)
+                .orElseThrow(() -> new IllegalArgumentException("Item not found"));
+
+            AuctionBook book = AuctionBook.of(item);
+            BigDecimal amount = checkBid(book, request);
+            LocalDateTime previousEnd = book.getEndTime();
+            placed.add(CompletableFuture.completedFuture(
+                    persistBid(book, amount, request.bidderId(), softCloseEnd(book))));
+            rescheduleIfExtended(book, previousEnd);
+            endTime = book.getEndTime();
         }
-        var endTime = item.getEndTime();
-        if (endTime == null) {
-            return;
+
+        return publish(placed, endTime).get(0);
+    }
+
+    /**
+     * Register or raise the caller's proxy bid and let the proxies settle the
+     * price in memory. Only the bids that result are persisted; a proxy that
+     * is outbid by another costs one visible bid, not one request per step.
+     */
+    public ProxyBidResponse placeProxyBid(Long itemId, ProxyBidRequest request) {
+        return auctionMetrics.time("auction.bid.proxy", () -> registerProxy(itemId, request));
+    }
+
+    private ProxyBidResponse registerProxy(Long itemId, ProxyBidRequest request) {
+        if (!bidSequencer.isEnabled()) {
+            throw new IllegalArgumentException("Proxy bidding is not available");
         }
-        ZonedDateTime end = endTime.atZone(AUCTION_ZONE);
-        ZonedDateTime now = ZonedDateTime.now(AUCTION_ZONE);
-        if (!end.isAfter(now)) {
-            item.setStatus("ENDED");
-            itemRepository.save(item);
+
+        List<CompletableFuture<BidResponse>> placed = new ArrayList<>(2);
+        ProxyBidResponse response = withBook(itemId, book -> {
+            ProxyBid proxy = checkProxy(book, request);
+            placeProxyBids(book, placed);
+            return new ProxyBidResponse(
+                    book.getItemId(),
+                    proxy.bidderId(),
+                    proxy.maxAmount(),
+                    proxy.increment(),
+                    book.getCurrentPrice(),
+                    book.getCurrentWinnerId(),
+                    book.getEndTime(),
+                    proxy.bidderId().equals(book.getCurrentWinnerId())
+            );
+        });
+
+        publish(placed, response.endTime());
+        return response;
+    }
+
+    /**
+     * {@link BidSequencer#withBook}, after rebuilding the book if the event log
+     * failed to record a bid it counted.
+     */
+    private <T> T withBook(Long itemId, Function<AuctionBook, T> action) {
+        return bidSequencer.withBook(itemId, book -> {
+            if (bidEventLog.isEnabled()) {
+                LocalDateTime previousEnd = book.getEndTime();
+                bidEventLog.recover(book);
+                rescheduleIfExtended(book, previousEnd);
+            }
+            return action.apply(book);
+        });
+    }
+
+    /**
+     * Validate a bid against the book and return the accepted amount.
+     * In bid-engine mode this runs under the item's lock, so rejections
+     * never reach the DB.
+     */
+    private BigDecimal checkBid(AuctionBook book, BidRequest request) {
+        checkOpen(book);
+
+        if (request.bidderId() == null) {
+            throw new IllegalArgumentException("bidderId is required");
+        }
+        if (request.amount() == null) {
+            throw new IllegalArgumentException("amount is required");
         }
+
+        BigDecimal amount = request.amount();
+        checkAmount(book, amount);
+        return amount;
     }
 
-    public BidResponse placeBid(Long itemId, BidRequest request) {
-        ItemEntity item = itemRepository.findById(itemId)
-            .orElseThrow(() -> new IllegalArgumentException("Item not found"));
+    /**
+     * Validate a proxy bid and register it on the book. Under the item's lock.
+     */
+    private ProxyBid checkProxy(AuctionBook book, ProxyBidRequest request) {
+        checkOpen(book);
+
+        if (request.bidderId() == null) {
+            throw new IllegalArgumentException("bidderId is required");
+        }
+        if (request.maxAmount() == null) {
+            throw new IllegalArgumentException("maxAmount is required");
+        }
+        BigDecimal increment = request.increment() != null ? request.increment() : defaultProxyIncrement;
+        if (increment.signum() <= 0) {
+            throw new IllegalArgumentException("Invalid increment");
+        }
 
-        refreshStatusIfNeeded(item);
+        BigDecimal maxAmount = request.maxAmount();
+        checkAmount(book, maxAmount);
 
-        if (!"FORWARD".equalsIgnoreCase(item.getAuctionType())) {
+        ProxyBid existing = book.proxyOf(request.bidderId());
+        if (existing != null && maxAmount.compareTo(existing.maxAmount()) < 0) {
+            throw new IllegalArgumentException("Proxy maximum can only be raised");
+        }
+        return book.registerProxy(request.bidderId(), maxAmount, increment);
+    }
+
+    private void checkOpen(AuctionBook book) {
+        if (!"FORWARD".equalsIgnoreCase(book.getAuctionType())) {
             throw new IllegalArgumentException("Bidding is only allowed on FORWARD auctions");
         }
 
-        if (!"ACTIVE".equalsIgnoreCase(item.getStatus())) {
+        if (!"ACTIVE".equalsIgnoreCase(book.getStatus())) {
             throw new IllegalArgumentException("Auction is not active");
         }
 
-        if (item.getEndTime() != null) {
+        if (book.getEndTime() != null) {
             LocalDateTime nowToronto = ZonedDateTime.now(AUCTION_ZONE).toLocalDateTime();
-            if (nowToronto.isAfter(item.getEndTime())) {
-                item.setStatus("ENDED");
-                itemRepository.save(item);
+            if (nowToronto.isAfter(book.getEndTime())) {
+                // AuctionExpiryScheduler closes it and announces the close
                 throw new IllegalArgumentException("Auction has ended");
             }
         }
+    }
 
-        if (request.bidderId() == null) {
-            throw new IllegalArgumentException("bidderId is required");
+    private void checkAmount(AuctionBook book, BigDecimal amount) {
+        if (amount.compareTo(book.getStartingPrice()) < 0) {
+            throw new IllegalArgumentException("Bid must be >= starting price");
         }
-        if (request.amount() == null) {
-            throw new IllegalArgumentException("amount is required");
+        if (amount.compareTo(book.getCurrentPrice()) <= 0) {
+            throw new IllegalArgumentException("Bid must be higher than current price");
         }
+    }
 
-        BigDecimal amount = request.amount();
+    /**
+     * Accept a checked bid on the book: appended to the event log (and
+     * projected into MySQL later) in event-log mode, queued for group commit
+     * in write-behind mode, otherwise persisted before the book moves.
+     */
+    private void place(AuctionBook book, Long bidderId, BigDecimal amount,
+                       List<CompletableFuture<BidResponse>> placed) {
+        LocalDateTime previousEnd = book.getEndTime();
+        LocalDateTime endTime = softCloseEnd(book);
+        if (bidEventLog.isEnabled()) {
+            // acknowledged once the record is on local disk
+            placed.add(bidEventLog.appendBid(book.getItemId(), bidderId, amount, endTime));
+            book.accept(amount, bidderId, endTime);
+        } else if (bidBatchWriter.isEnabled()) {
+            // later bids are sequenced against this one while its batch commits
+            book.accept(amount, bidderId, endTime);
+            placed.add(bidBatchWriter.submit(book, bidderId, amount, endTime));
+        } else {
+            placed.add(CompletableFuture.completedFuture(persistBid(book, amount, bidderId, endTime)));
+        }
+        rescheduleIfExtended(book, previousEnd);
+    }
 
-        if (amount.compareTo(item.getStartingPrice()) < 0) {
-            throw new IllegalArgumentException("Bid must be >= starting price");
+    /**
+     * Soft close: a bid inside the last window-seconds pushes endTime out to
+     * extend-seconds from now. The new end is written by the same UPDATE as
+     * the bid's price, never on its own.
+     */
+    private LocalDateTime softCloseEnd(AuctionBook book) {
+        LocalDateTime endTime = book.getEndTime();
+        if (!softCloseEnabled || endTime == null) {
+            return endTime;
         }
-        if (amount.compareTo(item.getCurrentPrice()) <= 0) {
-            throw new IllegalArgumentException("Bid must be higher than current price");
+        LocalDateTime now = ZonedDateTime.now(AUCTION_ZONE).toLocalDateTime();
+        if (now.isBefore(endTime.minusSeconds(softCloseWindowSeconds))) {
+            return endTime;
         }
+        LocalDateTime extended = now.plusSeconds(softCloseExtendSeconds);
+        return extended.isAfter(endTime) ? extended : endTime;
+    }
+
+    private void rescheduleIfExtended(AuctionBook book, LocalDateTime previousEnd) {
+        if (!Objects.equals(book.getEndTime(), previousEnd)) {
+            // still under the book lock, so the old deadline can't close the auction first
+            expiryScheduler.schedule(book.getItemId(), book.getEndTime());
+        }
+    }
+
+    private void placeProxyBids(AuctionBook book, List<CompletableFuture<BidResponse>> placed) {
+        for (AuctionBook.VisibleBid bid : book.resolveProxies()) {
+            place(book, bid.bidderId(), bid.amount(), placed);
+        }
+    }
 
+    /**
+     * Wait (outside the lock) for the placed bids to commit, then announce them in order.
+     * A logged bid is only on disk at this point; {@link BidEventLog} announces it
+     * once MySQL has it, so listeners that read the DB never miss it.
+     */
+    private List<BidResponse> publish(List<CompletableFuture<BidResponse>> placed, LocalDateTime endTime) {
+        List<BidResponse> committed = new ArrayList<>(placed.size());
+        for (CompletableFuture<BidResponse> bid : placed) {
+            committed.add(awaitCommit(bid));
+        }
+        if (!bidEventLog.isEnabled()) {
+            committed.forEach(r -> eventPublisher.publishEvent(
+                    new BidAcceptedEvent(r.itemId(), r.bidId(), r.bidderId(), r.amount(), endTime)));
+        }
+        return committed;
+    }
+
+    /**
+     * Synchronous persistence: bid insert and leading-bid update in one transaction.
+     */
+    private BidResponse persistBid(AuctionBook book, BigDecimal amount, Long bidderId, LocalDateTime endTime) {
         BidEntity bid = BidEntity.builder()
-                .itemId(itemId)
-                .bidderId(request.bidderId())
+                .itemId(book.getItemId())
+                .bidderId(bidderId)
                 .amount(amount)
                 .build();
 
-        BidEntity savedBid = bidRepository.save(bid);
+        BidEntity savedBid = transactionTemplate.execute(tx -> {
+            BidEntity saved = bidRepository.save(bid);
+            if (itemRepository.updateLeadingBid(book.getItemId(), amount, bidderId, endTime) == 0) {
+                // MySQL is already at or above this amount: the book we checked against was stale
+                tx.setRollbackOnly();
+                return null;
+            }
+            return saved;
+        });
+        if (savedBid == null) {
+            bidSequencer.evict(book.getItemId());
+            throw new IllegalArgumentException("Bid must be higher than current price");
+        }
 
-        item.setCurrentPrice(amount);
-        item.setCurrentWinnerId(request.bidderId());
-        itemRepository.save(item);
+        // only move the in-memory price once the DB has it
+        book.accept(amount, bidderId, endTime);
 
         return new BidResponse(
                 savedBid.getBidId(),
@@ -98,16 +317,60 @@ public class BidService {
         );
     }
 
+    private BidResponse awaitCommit(CompletableFuture<BidResponse> committed) {
+        try {
+            return committed.join();
+        } catch (CompletionException ex) {
+            // the book already moved past this bid; the flusher marked it stale, so the
+            // next bid reloads it once this item's queued bids can no longer be written
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Top bids for the item page, from the in-memory ladder.
+     */
     public List<BidResponse> getBidsForItem(Long itemId) {
-        return bidRepository.findByItemIdOrderByAmountDesc(itemId)
-                .stream()
-                .map(b -> new BidResponse(
-                        b.getBidId(),
-                        b.getItemId(),
-                        b.getBidderId(),
-                        b.getAmount(),
-                        b.getBidTime()
-                ))
-                .toList();
+        return bidLadder.get(itemId).top();
+    }
+
+    public BidLadder.Ladder getBidLadder(Long itemId) {
+        return bidLadder.get(itemId);
+    }
+
+    /**
+     * Full history, highest first, one keyset page at a time.
+     */
+    public BidPage getBidHistory(Long itemId, String cursor, Integer limit) {
+        int size = limit == null ? DEFAULT_HISTORY_PAGE : Math.min(Math.max(limit, 1), MAX_HISTORY_PAGE);
+        Pageable page = PageRequest.of(0, size);
+
+        List<BidEntity> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = bidRepository.findByItemIdOrderByAmountDescBidIdDesc(itemId, page);
+        } else {
+            BidCursor after = BidCursor.decode(cursor);
+            rows = bidRepository.findPageBelow(itemId, after.amount(), after.bidId(), page);
+        }
+
+        String nextCursor = null;
+        if (rows.size() == size) {
+            BidEntity last = rows.get(rows.size() - 1);
+            nextCursor = new BidCursor(last.getAmount(), last.getBidId()).encode();
+        }
+        return new BidPage(rows.stream().map(BidService::toResponse).toList(), nextCursor);
+    }
+
+    static BidResponse toResponse(BidEntity b) {
+        return new BidResponse(
+                b.getBidId(),
+                b.getItemId(),
+                b.getBidderId(),
+                b.getAmount(),
+                b.getBidTime()
+        );
     }
 }
@@ -0,0 +1,119 @@
+package com.aurora.auctionmid.bid;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Per-item auction state as of log sequence {@code seq}, plus how far the log
+ * had been projected into MySQL at that point. Replay starts from the newest
+ * snapshot instead of the beginning of the log.
+ */
+record LogSnapshot(long seq, long projectedThrough, List<AuctionBook.State> books) {
+
+    private static final int MAGIC = 0x41554331;   // "AUC1"
+    private static final String PREFIX = "snapshot-";
+    private static final String SUFFIX = ".snap";
+    private static final long NONE = Long.MIN_VALUE;
+
+    /**
+     * Write to a temp file, fsync, then rename into place, so a crash leaves
+     * either the old snapshot or the new one. Returns the new file.
+     */
+    Path write(Path dir) throws IOException {
+        Path target = dir.resolve(String.format("%s%020d%s", PREFIX, seq, SUFFIX));
+        Path tmp = dir.resolve(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+            out.writeInt(MAGIC);
+            out.writeLong(seq);
+            out.writeLong(projectedThrough);
+            out.writeInt(books.size());
+            for (AuctionBook.State b : books) {
+                out.writeLong(b.itemId());
+                out.writeUTF(b.auctionType());
+                out.writeUTF(b.startingPrice().toPlainString());
+                out.writeUTF(b.currentPrice().toPlainString());
+                out.writeLong(b.currentWinnerId() != null ? b.currentWinnerId() : NONE);
+                out.writeUTF(b.status());
+                out.writeLong(b.endTime() != null ? b.endTime().toEpochSecond(ZoneOffset.UTC) : NONE);
+                out.writeInt(b.endTime() != null ? b.endTime().getNano() : 0);
+            }
+            out.flush();
+            channel.force(true);
+        }
+        Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        return target;
+    }
+
+    /**
+     * Delete every snapshot older than {@code keep}.
+     */
+    static void deleteOlderThan(Path dir, Path keep) throws IOException {
+        for (Path file : list(dir)) {
+            if (file.getFileName().toString().compareTo(keep.getFileName().toString()) < 0) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    static LogSnapshot read(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not an event-log snapshot: " + file);
+            }
+            long seq = in.readLong();
+            long projectedThrough = in.readLong();
+            int count = in.readInt();
+            List<AuctionBook.State> books = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                long itemId = in.readLong();
+                String auctionType = in.readUTF();
+                BigDecimal startingPrice = new BigDecimal(in.readUTF());
+                BigDecimal currentPrice = new BigDecimal(in.readUTF());
+                long winnerId = in.readLong();
+                String status = in.readUTF();
+                long endSeconds = in.readLong();
+                int endNanos = in.readInt();
+                books.add(new AuctionBook.State(
+                        itemId,
+                        auctionType,
+                        startingPrice,
+                        currentPrice,
+                        winnerId != NONE ? winnerId : null,
+                        status,
+                        endSeconds != NONE ? LocalDateTime.ofEpochSecond(endSeconds, endNanos, ZoneOffset.UTC) : null
+                ));
+            }
+            return new LogSnapshot(seq, projectedThrough, books);
+        }
+    }
+
+    /**
+     * Snapshot files in {@code dir}, oldest first (names embed the zero-padded seq).
+     */
+    static List<Path> list(Path dir) throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, PREFIX + "*" + SUFFIX)) {
+            stream.forEach(files::add);
+        }
+        files.sort(Comparator.comparing(p -> p.getFileName().toString()));
+        return files;
+    }
+}
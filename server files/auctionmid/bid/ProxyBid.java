@@ -0,0 +1,16 @@
+package com.aurora.auctionmid.bid;
+
+import java.math.BigDecimal;
+
+/**
+ * A bidder's standing instruction on one item: bid for me, {@code increment}
+ * above whoever is beating me, up to {@code maxAmount}. {@code seq} orders
+ * registrations, so on equal maxima the earlier one wins.
+ */
+record ProxyBid(Long bidderId, BigDecimal maxAmount, BigDecimal increment, long seq) {
+
+    boolean outranks(ProxyBid other) {
+        int byMax = maxAmount.compareTo(other.maxAmount);
+        return byMax > 0 || (byMax == 0 && seq < other.seq);
+    }
+}
@@ -0,0 +1,9 @@
+package com.aurora.auctionmid.bid;
+
+import java.math.BigDecimal;
+
+public record ProxyBidRequest(
+        Long bidderId,           // userId
+        BigDecimal maxAmount,    // never revealed to other bidders
+        BigDecimal increment     // optional; auction.proxy.default-increment
+) {}
@@ -0,0 +1,18 @@
+package com.aurora.auctionmid.bid;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * The caller's proxy and where the auction stands after it was resolved.
+ */
+public record ProxyBidResponse(
+        Long itemId,
+        Long bidderId,
+        BigDecimal maxAmount,
+        BigDecimal increment,
+        BigDecimal currentPrice,
+        Long currentWinnerId,
+        LocalDateTime endTime,
+        boolean leading
+) {}
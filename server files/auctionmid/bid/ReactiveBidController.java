@@ -0,0 +1,76 @@
+package com.aurora.auctionmid.bid;
+
+import com.aurora.auctionmid.item.ItemService;
+import com.aurora.auctionmid.live.ItemEventBroadcaster;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * Reactive twin of {@link BidController} under /api/rx/items.
+ *
+ * Bids and Dutch accepts go through the same BidService/ItemService methods as
+ * the servlet endpoints, on the bounded rx scheduler. The service calls are
+ * blocking, so each one still holds an rx-blocking thread while it runs. The
+ * Dutch price stream is an SseEmitter fed by {@link ItemEventBroadcaster},
+ * which writes to the socket on its own sender pool.
+ */
+@RestController
+@RequestMapping("/api/rx/items")
+@RequiredArgsConstructor
+@CrossOrigin
+public class ReactiveBidController {
+
+    private final BidService bidService;
+    private final ItemService itemService;
+    private final ItemEventBroadcaster broadcaster;
+    private final Scheduler blockingScheduler;
+
+    @PostMapping("/{itemId}/bids")
+    public Mono<ResponseEntity<?>> placeBid(@PathVariable Long itemId,
+                                            @RequestBody BidRequest request) {
+        return call(() -> bidService.placeBid(itemId, request));
+    }
+
+    @GetMapping("/{itemId}/bids")
+    public Mono<ResponseEntity<?>> getBids(@PathVariable Long itemId) {
+        return call(() -> bidService.getBidsForItem(itemId));
+    }
+
+    @PostMapping("/{itemId}/dutch/accept")
+    public Mono<ResponseEntity<?>> acceptDutch(@PathVariable Long itemId,
+                                               @RequestBody Map<String, Long> body) {
+        Long buyerId = body.get("buyerId");
+        return call(() -> itemService.acceptDutch(itemId, buyerId));
+    }
+
+    /**
+     * GET /api/rx/items/{itemId}/dutch/price/stream
+     * Server-sent "dutch-price" events: the current price, then one whenever it
+     * steps down. Ends with a "status" event when the auction closes.
+     */
+    @GetMapping(value = "/{itemId}/dutch/price/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<?> streamDutchPrice(@PathVariable Long itemId) {
+        try {
+            return ResponseEntity.ok(broadcaster.subscribeDutchPrice(itemId));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(Map.of("error", ex.getMessage()));
+        }
+    }
+
+    private Mono<ResponseEntity<?>> call(Callable<?> operation) {
+        return Mono.fromCallable(operation)
+                .subscribeOn(blockingScheduler)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, ex -> Mono.just(
+                        ResponseEntity.badRequest().body(Map.of("error", ex.getMessage()))));
+    }
+}
@@ -0,0 +1,274 @@
+package com.aurora.auctionmid.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Size- and TTL-bounded LRU cache.
+ *
+ * Keys are spread over lock-striped access-ordered LinkedHashMaps, each holding
+ * its share of maxSize, so readers of different keys rarely contend. Entries
+ * expire after the cache TTL or at an explicit per-entry deadline.
+ *
+ * A read-through load is only cached if no put, update or invalidation of its
+ * key happened while it ran; otherwise it may hold what that write replaced.
+ */
+public final class BoundedCache<K, V> {
+
+    private static final int SEGMENTS = 16;
+
+    private record Entry<V>(V value, long expiresAtMillis) {}
+
+    private final Segment<K, V>[] segments;
+    private final long ttlMillis;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    public BoundedCache(int maxSize, Duration ttl) {
+        this.ttlMillis = ttl.toMillis();
+        this.segments = new Segment[SEGMENTS];
+        int perSegment = Math.max(1, (maxSize + SEGMENTS - 1) / SEGMENTS);
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment<>(perSegment, evictions);
+        }
+    }
+
+    public V get(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            V value = lookup(segment, key);
+            if (value != null) {
+                hits.increment();
+                return value;
+            }
+        } finally {
+            segment.lock.unlock();
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Read-through: on a miss, load outside the lock and cache a non-null result,
+     * unless the key was written or invalidated in the meantime.
+     */
+    public V get(K key, Function<K, V> loader) {
+        return get(key, loader, Objects::nonNull);
+    }
+
+    /**
+     * Read-through, caching a loaded value only if {@code keep} accepts it; the
+     * value is returned either way.
+     */
+    public V get(K key, Function<K, V> loader, Predicate<? super V> keep) {
+        Segment<K, V> segment = segmentFor(key);
+        Object token = new Object();
+        segment.lock.lock();
+        try {
+            V value = lookup(segment, key);
+            if (value != null) {
+                hits.increment();
+                return value;
+            }
+            segment.loading.put(key, token);
+        } finally {
+            segment.lock.unlock();
+        }
+        misses.increment();
+
+        V loaded = loader.apply(key);
+        segment.lock.lock();
+        try {
+            if (segment.loading.get(key) == token) {
+                segment.loading.remove(key);
+                if (loaded != null && keep.test(loaded)) {
+                    segment.put(key, new Entry<>(loaded, System.currentTimeMillis() + ttlMillis));
+                }
+            }
+        } finally {
+            segment.lock.unlock();
+        }
+        return loaded;
+    }
+
+    /**
+     * Replace a cached, unexpired value in place, keeping its deadline. Not counted
+     * as a get; a load of the key in flight is dropped, as it may predate the update.
+     */
+    public void computeIfPresent(K key, UnaryOperator<V> update) {
+        Segment<K, V> segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            segment.loading.remove(key);
+            Entry<V> e = segment.get(key);
+            if (e != null && e.expiresAtMillis() > System.currentTimeMillis()) {
+                V updated = update.apply(e.value());
+                if (updated != e.value()) {
+                    segment.put(key, new Entry<>(updated, e.expiresAtMillis()));
+                }
+            }
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * Cache {@code value} unless the key already holds an unexpired entry. True
+     * if it was added; atomic, so of two racing callers only one gets true.
+     */
+    public boolean putIfAbsent(K key, V value) {
+        Segment<K, V> segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            if (lookup(segment, key) != null) {
+                return false;
+            }
+            segment.loading.remove(key);
+            segment.put(key, new Entry<>(value, System.currentTimeMillis() + ttlMillis));
+            return true;
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    public void put(K key, V value) {
+        put(key, value, System.currentTimeMillis() + ttlMillis);
+    }
+
+    /**
+     * Cache until {@code expiresAtMillis} or the cache TTL, whichever is sooner.
+     */
+    public void put(K key, V value, long expiresAtMillis) {
+        long deadline = Math.min(expiresAtMillis, System.currentTimeMillis() + ttlMillis);
+        Segment<K, V> segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            segment.loading.remove(key);
+            segment.put(key, new Entry<>(value, deadline));
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    public void invalidate(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            segment.loading.remove(key);
+            segment.remove(key);
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        for (Segment<K, V> segment : segments) {
+            segment.lock.lock();
+            try {
+                segment.loading.clear();
+                segment.clear();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+    }
+
+    public long size() {
+        long size = 0;
+        for (Segment<K, V> segment : segments) {
+            segment.lock.lock();
+            try {
+                size += segment.size();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Register cache.gets{result=hit|miss}, cache.evictions and cache.size, tagged cache=name.
+     */
+    public BoundedCache<K, V> bindTo(MeterRegistry registry, String name) {
+        FunctionCounter.builder("cache.gets", hits, LongAdder::sum)
+                .tags("cache", name, "result", "hit").register(registry);
+        FunctionCounter.builder("cache.gets", misses, LongAdder::sum)
+                .tags("cache", name, "result", "miss").register(registry);
+        FunctionCounter.builder("cache.evictions", evictions, LongAdder::sum)
+                .tags("cache", name).register(registry);
+        Gauge.builder("cache.size", this, BoundedCache::size)
+                .tags("cache", name).register(registry);
+        return this;
+    }
+
+    // caller holds the segment lock
+    private V lookup(Segment<K, V> segment, K key) {
+        Entry<V> e = segment.get(key);
+        if (e == null) {
+            return null;
+        }
+        if (e.expiresAtMillis() > System.currentTimeMillis()) {
+            return e.value();
+        }
+        segment.remove(key);
+        evictions.increment();
+        return null;
+    }
+
+    private Segment<K, V> segmentFor(K key) {
+        int h = key.hashCode();
+        h ^= (h >>> 16);
+        return segments[h & (SEGMENTS - 1)];
+    }
+
+    private static final class Segment<K, V> extends LinkedHashMap<K, Entry<V>> {
+        final ReentrantLock lock = new ReentrantLock();
+        // key -> token of its latest load in flight; cleared by any write to the key
+        final Map<K, Object> loading = new HashMap<>();
+        private final int capacity;
+        private final LongAdder evictions;
+
+        Segment(int capacity, LongAdder evictions) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+            this.evictions = evictions;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+            if (size() > capacity) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.aurora.auctionmid.cluster;
+
+import com.aurora.auctionmid.bid.BidAcceptedEvent;
+import com.aurora.auctionmid.item.ItemStatusChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Events relayed by {@link ClusterEventRelay} on other nodes. Only accepted
+ * when {@link ShardForwardingFilter} verified the request's peer signature.
+ */
+@RestController
+@RequestMapping("/api/cluster/events")
+@RequiredArgsConstructor
+public class ClusterEventController {
+
+    private final ItemShardRing shardRing;
+    private final ClusterEventRelay eventRelay;
+
+    @PostMapping("/bid")
+    public ResponseEntity<Void> bidAccepted(
+            @RequestAttribute(name = ShardForwardingFilter.PEER_ATTRIBUTE, required = false) String peer,
+            @RequestBody BidAcceptedEvent event
+    ) {
+        return publish(peer, event);
+    }
+
+    @PostMapping("/status")
+    public ResponseEntity<Void> statusChanged(
+            @RequestAttribute(name = ShardForwardingFilter.PEER_ATTRIBUTE, required = false) String peer,
+            @RequestBody ItemStatusChangedEvent event
+    ) {
+        return publish(peer, event);
+    }
+
+    private ResponseEntity<Void> publish(String peer, Object event) {
+        if (!shardRing.isEnabled()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (peer == null) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        eventRelay.publishFromPeer(event);
+        return ResponseEntity.accepted().build();
+    }
+}
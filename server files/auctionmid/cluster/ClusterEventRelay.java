@@ -0,0 +1,129 @@
+package com.aurora.auctionmid.cluster;
+
+import com.aurora.auctionmid.bid.BidAcceptedEvent;
+import com.aurora.auctionmid.item.ItemStatusChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the other nodes' caches and live streams current in partitioned mode.
+ *
+ * Bids and status changes happen on one node, but item snapshots, listings,
+ * bid ladders and SSE watchers live on every node. Each local event is posted
+ * to every peer, which publishes it as if it were its own (without relaying it
+ * again). Best effort: one sender thread and a bounded queue per peer, oldest
+ * dropped when a peer is down; the peer's caches fall back on their TTLs.
+ */
+@Slf4j
+@Component
+public class ClusterEventRelay {
+
+    static final String BID_PATH = "/api/cluster/events/bid";
+    static final String STATUS_PATH = "/api/cluster/events/status";
+
+    private static final ThreadLocal<Boolean> FROM_PEER = new ThreadLocal<>();
+
+    private final ItemShardRing shardRing;
+    private final PeerAuth peerAuth;
+    private final PeerClient peerClient;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int queueCapacity;
+
+    private final Map<String, ExecutorService> senders = new ConcurrentHashMap<>();
+
+    public ClusterEventRelay(
+            ItemShardRing shardRing,
+            PeerAuth peerAuth,
+            PeerClient peerClient,
+            ObjectMapper objectMapper,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${auction.cluster.relay-queue:10000}") int queueCapacity
+    ) {
+        this.shardRing = shardRing;
+        this.peerAuth = peerAuth;
+        this.peerClient = peerClient;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.queueCapacity = queueCapacity;
+    }
+
+    @PreDestroy
+    void stop() {
+        senders.values().forEach(ExecutorService::shutdownNow);
+    }
+
+    @EventListener
+    public void onBidAccepted(BidAcceptedEvent event) {
+        relay(BID_PATH, event);
+    }
+
+    @EventListener
+    public void onStatusChanged(ItemStatusChangedEvent event) {
+        relay(STATUS_PATH, event);
+    }
+
+    /**
+     * Publish an event received from a peer on this node only.
+     */
+    public void publishFromPeer(Object event) {
+        FROM_PEER.set(Boolean.TRUE);
+        try {
+            eventPublisher.publishEvent(event);
+        } finally {
+            FROM_PEER.remove();
+        }
+    }
+
+    private void relay(String path, Object event) {
+        if (!shardRing.isEnabled() || FROM_PEER.get() != null) {
+            return;
+        }
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(event);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not encode " + event, ex);
+        }
+        for (String peer : shardRing.peers()) {
+            senderFor(peer).execute(() -> send(peer, path, body));
+        }
+    }
+
+    private void send(String peer, String path, byte[] body) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        peerAuth.sign(headers, path, body);
+        try {
+            peerClient.post(peer, path, headers, body);
+        } catch (RuntimeException ex) {
+            log.debug("Could not relay event to {}", peer, ex);
+        }
+    }
+
+    private ExecutorService senderFor(String peer) {
+        return senders.computeIfAbsent(peer, p -> new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "cluster-relay-" + p);
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.DiscardOldestPolicy()));
+    }
+}
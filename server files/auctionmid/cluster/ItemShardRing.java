@@ -0,0 +1,106 @@
+package com.aurora.auctionmid.cluster;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Which middle-tier node owns an item in partitioned mode.
+ *
+ * Consistent hashing over the static node list: every node is placed on a
+ * 64-bit ring at {@code virtual-nodes} points and an item belongs to the first
+ * node point at or after its id's hash. Adding or removing a node only moves
+ * the items between it and its neighbours. With the cluster off, every item is
+ * local.
+ */
+@Component
+public class ItemShardRing {
+
+    private final boolean enabled;
+    private final String self;
+    private final List<String> nodes;
+    private final TreeMap<Long, String> ring = new TreeMap<>();
+
+    public ItemShardRing(
+            @Value("${auction.cluster.enabled:false}") boolean enabled,
+            @Value("${auction.cluster.self:}") String self,
+            @Value("${auction.cluster.nodes:}") List<String> nodes,
+            @Value("${auction.cluster.virtual-nodes:160}") int virtualNodes
+    ) {
+        this.enabled = enabled;
+        this.self = normalize(self);
+        this.nodes = nodes.stream().map(ItemShardRing::normalize).filter(n -> !n.isEmpty()).distinct().toList();
+        if (!enabled) {
+            return;
+        }
+        if (!this.nodes.contains(this.self)) {
+            throw new IllegalStateException(
+                    "auction.cluster.self (" + this.self + ") is not in auction.cluster.nodes " + this.nodes);
+        }
+        for (String node : this.nodes) {
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.put(token(node + "#" + i), node);
+            }
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** This node's base URL, as listed in auction.cluster.nodes. */
+    public String self() {
+        return self;
+    }
+
+    public String ownerOf(Long itemId) {
+        if (!enabled) {
+            return self;
+        }
+        Map.Entry<Long, String> owner = ring.ceilingEntry(mix(itemId));
+        return owner != null ? owner.getValue() : ring.firstEntry().getValue();
+    }
+
+    public boolean isLocal(Long itemId) {
+        return !enabled || self.equals(ownerOf(itemId));
+    }
+
+    /** Every other node. */
+    public List<String> peers() {
+        return nodes.stream().filter(n -> !n.equals(self)).toList();
+    }
+
+    public boolean isPeer(String node) {
+        return node != null && !node.equals(self) && nodes.contains(normalize(node));
+    }
+
+    private static String normalize(String node) {
+        String n = node == null ? "" : node.trim();
+        return n.endsWith("/") ? n.substring(0, n.length() - 1) : n;
+    }
+
+    // ring positions of a node: stable across JVMs and restarts, unlike String.hashCode
+    private static long token(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(key.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    // item ids are sequential; spread them over the whole ring (SplitMix64 finalizer)
+    private static long mix(long id) {
+        long z = id + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,121 @@
+package com.aurora.auctionmid.cluster;
+
+import com.aurora.auctionmid.cache.BoundedCache;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * Signs requests one node sends another, and checks them on arrival.
+ *
+ * The signature is an HMAC-SHA256, under the cluster's shared secret, of the
+ * sending node, a timestamp, a random nonce, the path and query, and the body's
+ * SHA-256. A request counts as coming from a peer only if all of that verifies,
+ * the timestamp is within max-skew-ms, and the nonce hasn't been seen before;
+ * the bare {@value ShardForwardingFilter#FORWARDED_HEADER} header proves
+ * nothing, since any client can send it.
+ *
+ * Nonces are remembered for twice max-skew-ms, the whole time their timestamp
+ * is accepted, so a captured request can't be replayed. Up to max-nonces are
+ * kept; size it above the peak rate of signed requests times that window.
+ */
+@Component
+public class PeerAuth {
+
+    static final String TIMESTAMP_HEADER = "X-Auction-Timestamp";
+    static final String SIGNATURE_HEADER = "X-Auction-Signature";
+    static final String NONCE_HEADER = "X-Auction-Nonce";
+
+    private static final String HMAC = "HmacSHA256";
+    private static final int NONCE_BYTES = 16;
+
+    private final ItemShardRing shardRing;
+    private final SecretKeySpec key;
+    private final long maxSkewMillis;
+    private final SecureRandom random = new SecureRandom();
+    private final BoundedCache<String, Boolean> seenNonces;
+
+    public PeerAuth(
+            ItemShardRing shardRing,
+            @Value("${auction.cluster.secret:}") String secret,
+            @Value("${auction.cluster.max-skew-ms:30000}") long maxSkewMillis,
+            @Value("${auction.cluster.max-nonces:1000000}") int maxNonces
+    ) {
+        this.shardRing = shardRing;
+        this.maxSkewMillis = maxSkewMillis;
+        this.seenNonces = new BoundedCache<>(maxNonces, Duration.ofMillis(2 * maxSkewMillis));
+        if (shardRing.isEnabled() && secret.isBlank()) {
+            throw new IllegalStateException("auction.cluster.secret must be set when the cluster is enabled");
+        }
+        this.key = secret.isBlank() ? null : new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC);
+    }
+
+    /**
+     * Mark {@code headers} as sent by this node for a POST of {@code body} to {@code pathAndQuery}.
+     */
+    public void sign(HttpHeaders headers, String pathAndQuery, byte[] body) {
+        String from = shardRing.self();
+        String timestamp = Long.toString(System.currentTimeMillis());
+        byte[] nonceBytes = new byte[NONCE_BYTES];
+        random.nextBytes(nonceBytes);
+        String nonce = Base64.getUrlEncoder().withoutPadding().encodeToString(nonceBytes);
+        headers.set(ShardForwardingFilter.FORWARDED_HEADER, from);
+        headers.set(TIMESTAMP_HEADER, timestamp);
+        headers.set(NONCE_HEADER, nonce);
+        headers.set(SIGNATURE_HEADER, signature(from, timestamp, nonce, pathAndQuery, body));
+    }
+
+    /**
+     * The peer that sent {@code request}, or null if it isn't a validly signed
+     * request from a node in auction.cluster.nodes, or is a replay of one.
+     */
+    public String verify(HttpServletRequest request, byte[] body) {
+        String from = request.getHeader(ShardForwardingFilter.FORWARDED_HEADER);
+        String timestamp = request.getHeader(TIMESTAMP_HEADER);
+        String nonce = request.getHeader(NONCE_HEADER);
+        String signature = request.getHeader(SIGNATURE_HEADER);
+        if (key == null || !shardRing.isPeer(from) || timestamp == null || nonce == null || signature == null) {
+            return null;
+        }
+        long sentAt;
+        try {
+            sentAt = Long.parseLong(timestamp);
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+        if (Math.abs(System.currentTimeMillis() - sentAt) > maxSkewMillis) {
+            return null;
+        }
+        String query = request.getQueryString();
+        String pathAndQuery = request.getRequestURI() + (query != null ? "?" + query : "");
+        byte[] expected = signature(from, timestamp, nonce, pathAndQuery, body).getBytes(StandardCharsets.UTF_8);
+        if (!MessageDigest.isEqual(expected, signature.getBytes(StandardCharsets.UTF_8))) {
+            return null;
+        }
+        // only a verified nonce is recorded, so forged ones can't crowd out real ones
+        return seenNonces.putIfAbsent(from + "\n" + nonce, Boolean.TRUE) ? from : null;
+    }
+
+    private String signature(String from, String timestamp, String nonce, String pathAndQuery, byte[] body) {
+        try {
+            Mac mac = Mac.getInstance(HMAC);
+            mac.init(key);
+            byte[] bodyHash = MessageDigest.getInstance("SHA-256").digest(body != null ? body : new byte[0]);
+            String signed = from + "\n" + timestamp + "\n" + nonce + "\n" + pathAndQuery + "\n"
+                    + Base64.getEncoder().encodeToString(bodyHash);
+            return Base64.getEncoder().encodeToString(mac.doFinal(signed.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.aurora.auctionmid.cluster;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.DefaultResponseErrorHandler;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+/**
+ * HTTP to the other middle-tier nodes. Kept apart from the auth upstream's
+ * RestTemplate: different timeouts, and a peer's 4xx/5xx is passed back to the
+ * caller as it is instead of being thrown.
+ */
+@Component
+public class PeerClient {
+
+    private final RestTemplate restTemplate;
+
+    public PeerClient(
+            @Value("${auction.cluster.http.connect-timeout-ms:1000}") long connectTimeoutMs,
+            @Value("${auction.cluster.http.read-timeout-ms:5000}") long readTimeoutMs,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs));
+        if (virtualThreads) {
+            builder.executor(Executors.newVirtualThreadPerTaskExecutor());
+        }
+        JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(builder.build());
+        factory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+
+        this.restTemplate = new RestTemplate(factory);
+        this.restTemplate.setErrorHandler(new DefaultResponseErrorHandler() {
+            @Override
+            public boolean hasError(ClientHttpResponse response) {
+                return false;
+            }
+        });
+    }
+
+    /**
+     * POST {@code body} to {@code node + pathAndQuery}. Throws
+     * ResourceAccessException if the node can't be reached.
+     */
+    public ResponseEntity<byte[]> post(String node, String pathAndQuery, HttpHeaders headers, byte[] body) {
+        return restTemplate.exchange(URI.create(node + pathAndQuery), HttpMethod.POST,
+                new HttpEntity<>(body, headers), byte[].class);
+    }
+}
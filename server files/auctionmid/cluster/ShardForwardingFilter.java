@@ -0,0 +1,257 @@
+package com.aurora.auctionmid.cluster;
+
+import com.aurora.auctionmid.metrics.AuctionMetrics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Partitioned mode: state-changing calls on an item run only on the item's
+ * owner (see {@link ItemShardRing}), whose in-memory book is authoritative.
+ *
+ * POSTs to bids, proxy-bids, dutch/accept and end (MVC and /api/rx) for an
+ * item owned elsewhere are relayed to the owner as they are, and its response
+ * is copied back. Reads stay local.
+ *
+ * Requests between nodes are signed ({@link PeerAuth}). A POST whose signature
+ * verifies gets the sending node in the {@value #PEER_ATTRIBUTE} request
+ * attribute. One that carries a signature that doesn't verify (forged, stale,
+ * or a replay) is refused with 401; on any other POST the peer headers are
+ * hidden, so it is handled as a client request. A relayed request for an item this node doesn't own is
+ * refused with 409 rather than relayed again, so nodes with different node
+ * lists can't bounce a request between them or split an item's book.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShardForwardingFilter extends OncePerRequestFilter {
+
+    static final String FORWARDED_HEADER = "X-Auction-Forwarded";
+    static final String OWNER_HEADER = "X-Auction-Owner";
+    static final String PEER_ATTRIBUTE = "auction.cluster.peer";
+
+    private static final Set<String> PEER_HEADERS = caseInsensitive(
+            FORWARDED_HEADER, PeerAuth.TIMESTAMP_HEADER, PeerAuth.NONCE_HEADER, PeerAuth.SIGNATURE_HEADER);
+
+    private static final Pattern OWNED_PATH =
+            Pattern.compile("^/api(?:/rx)?/items/(\\d{1,18})/(?:bids|proxy-bids|dutch/accept|end)$");
+
+    private final ItemShardRing shardRing;
+    private final PeerAuth peerAuth;
+    private final PeerClient peerClient;
+    private final ObjectMapper objectMapper;
+    private final AuctionMetrics auctionMetrics;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !shardRing.isEnabled() || !"POST".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+        String peer = null;
+        if (request.getHeader(FORWARDED_HEADER) != null) {
+            byte[] body = request.getInputStream().readAllBytes();
+            peer = peerAuth.verify(request, body);
+            if (peer == null && request.getHeader(PeerAuth.SIGNATURE_HEADER) != null) {
+                // clients never sign: this is a forged, stale or replayed peer request
+                auctionMetrics.increment("auction.cluster.forwarded", "outcome", "rejected");
+                response.setStatus(HttpStatus.UNAUTHORIZED.value());
+                response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                objectMapper.writeValue(response.getOutputStream(), Map.of("error", "Invalid peer signature"));
+                return;
+            }
+            if (peer == null) {
+                auctionMetrics.increment("auction.cluster.forwarded", "outcome", "unverified");
+            } else {
+                request.setAttribute(PEER_ATTRIBUTE, peer);
+            }
+            request = new BufferedRequest(request, body, peer == null);
+        }
+
+        Matcher path = OWNED_PATH.matcher(request.getRequestURI().substring(request.getContextPath().length()));
+        if (!path.matches()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        String owner = shardRing.ownerOf(Long.parseLong(path.group(1)));
+        response.setHeader(OWNER_HEADER, owner);
+        if (owner.equals(shardRing.self())) {
+            chain.doFilter(request, response);
+            return;
+        }
+        if (peer != null) {
+            // the sender thinks we own it: node lists disagree, and only the owner may hold the book
+            log.warn("{} relayed {} for an item owned by {}", peer, request.getRequestURI(), owner);
+            auctionMetrics.increment("auction.cluster.forwarded", "outcome", "misrouted");
+            response.setStatus(HttpStatus.CONFLICT.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), Map.of("error", "Item is owned by another node"));
+            return;
+        }
+        forward(owner, request, response);
+    }
+
+    private void forward(String owner, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        HttpHeaders headers = new HttpHeaders();
+        copyHeader(request, headers, HttpHeaders.CONTENT_TYPE);
+        copyHeader(request, headers, HttpHeaders.ACCEPT);
+        copyHeader(request, headers, HttpHeaders.AUTHORIZATION);
+
+        String query = request.getQueryString();
+        String pathAndQuery = request.getRequestURI() + (query != null ? "?" + query : "");
+        byte[] body = request.getInputStream().readAllBytes();
+        peerAuth.sign(headers, pathAndQuery, body);
+
+        ResponseEntity<byte[]> owned;
+        try {
+            owned = peerClient.post(owner, pathAndQuery, headers, body);
+        } catch (ResourceAccessException ex) {
+            log.warn("Owner {} unreachable for {}", owner, pathAndQuery, ex);
+            auctionMetrics.increment("auction.cluster.forwarded", "outcome", "unavailable");
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(), Map.of("error", "Owner node unavailable"));
+            return;
+        }
+
+        auctionMetrics.increment("auction.cluster.forwarded", "outcome", "ok");
+        response.setStatus(owned.getStatusCode().value());
+        MediaType contentType = owned.getHeaders().getContentType();
+        if (contentType != null) {
+            response.setContentType(contentType.toString());
+        }
+        if (owned.getBody() != null) {
+            response.getOutputStream().write(owned.getBody());
+        }
+    }
+
+    private static void copyHeader(HttpServletRequest request, HttpHeaders headers, String name) {
+        String value = request.getHeader(name);
+        if (value != null) {
+            headers.set(name, value);
+        }
+    }
+
+    private static Set<String> caseInsensitive(String... names) {
+        Set<String> set = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        set.addAll(List.of(names));
+        return set;
+    }
+
+    /**
+     * The request with its body already read (to check the signature), and with
+     * the peer headers hidden when it wasn't signed by a peer.
+     */
+    private static final class BufferedRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+        private final boolean hidePeerHeaders;
+
+        BufferedRequest(HttpServletRequest request, byte[] body, boolean hidePeerHeaders) {
+            super(request);
+            this.body = body;
+            this.hidePeerHeaders = hidePeerHeaders;
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return hidden(name) ? null : super.getHeader(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            return hidden(name) ? Collections.emptyEnumeration() : super.getHeaders(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaderNames() {
+            if (!hidePeerHeaders) {
+                return super.getHeaderNames();
+            }
+            List<String> names = Collections.list(super.getHeaderNames());
+            names.removeIf(PEER_HEADERS::contains);
+            return Collections.enumeration(names);
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    // the whole body is already in memory
+                    try {
+                        listener.onDataAvailable();
+                        listener.onAllDataRead();
+                    } catch (IOException ex) {
+                        listener.onError(ex);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(body),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+
+        private boolean hidden(String name) {
+            return hidePeerHeaders && PEER_HEADERS.contains(name);
+        }
+    }
+}
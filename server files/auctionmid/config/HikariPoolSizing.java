@@ -0,0 +1,46 @@
+package com.aurora.auctionmid.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sizes the Hikari pool from the core count when auction.db.pool.auto-size is
+ * on: cores * 2 + spindles (HikariCP's rule of thumb), capped at max, with a
+ * fixed-size pool so no request pays for opening a connection under load.
+ * An explicit spring.datasource.hikari.maximum-pool-size still wins.
+ */
+@Slf4j
+@Component
+public class HikariPoolSizing implements BeanPostProcessor {
+
+    private final boolean autoSize;
+    private final int spindles;
+    private final int max;
+    private final Integer explicitSize;
+
+    public HikariPoolSizing(
+            @Value("${auction.db.pool.auto-size:false}") boolean autoSize,
+            @Value("${auction.db.pool.spindles:1}") int spindles,
+            @Value("${auction.db.pool.max:64}") int max,
+            @Value("${spring.datasource.hikari.maximum-pool-size:#{null}}") Integer explicitSize
+    ) {
+        this.autoSize = autoSize;
+        this.spindles = spindles;
+        this.max = max;
+        this.explicitSize = explicitSize;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (autoSize && explicitSize == null && bean instanceof HikariDataSource dataSource) {
+            int size = Math.min(max, Runtime.getRuntime().availableProcessors() * 2 + spindles);
+            dataSource.setMaximumPoolSize(size);
+            dataSource.setMinimumIdle(size);
+            log.info("Hikari pool {} sized to {} connections", dataSource.getPoolName(), size);
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,24 @@
+package com.aurora.auctionmid.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+@Configuration
+public class ReactiveConfig {
+
+    /**
+     * Where the /api/rx endpoints run their blocking service calls (JPA, bid
+     * commit). Threads track concurrent DB work, not open connections; when all
+     * are busy, calls queue up to queue-size and beyond that fail fast.
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler blockingScheduler(
+            @Value("${auction.rx.blocking-threads:64}") int threads,
+            @Value("${auction.rx.queue-size:10000}") int queueSize
+    ) {
+        return Schedulers.newBoundedElastic(threads, queueSize, "rx-blocking");
+    }
+}
@@ -0,0 +1,136 @@
+package com.aurora.auctionmid.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Caps concurrent requests per upstream route (scheme://host:port).
+ *
+ * The JDK HttpClient behind our RestTemplate keeps idle keep-alive connections
+ * but has no per-route limit of its own, so this plays the pool's checkout role:
+ * a caller waits up to acquire-timeout-ms for a slot, then fails fast instead
+ * of piling more connections onto a slow upstream.
+ */
+@Component
+public class UpstreamConnectionLimiter implements ClientHttpRequestInterceptor {
+
+    // how often a waiting async caller retries for a slot
+    private static final Executor RETRY = CompletableFuture.delayedExecutor(2, TimeUnit.MILLISECONDS);
+
+    private final int maxPerRoute;
+    private final long acquireTimeoutMillis;
+    private final Map<String, Semaphore> routes = new ConcurrentHashMap<>();
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final Timer acquireTimer;
+
+    public UpstreamConnectionLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${auth.http.max-per-route:50}") int maxPerRoute,
+            @Value("${auth.http.acquire-timeout-ms:1000}") long acquireTimeoutMillis
+    ) {
+        this.maxPerRoute = maxPerRoute;
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+        this.acquireTimer = Timer.builder("auth.upstream.pool.acquire")
+                .description("Time spent waiting for an upstream slot")
+                .register(meterRegistry);
+        Gauge.builder("auth.upstream.pool.in-flight", inFlight, AtomicInteger::get)
+                .register(meterRegistry);
+        Gauge.builder("auth.upstream.pool.waiting", waiting, AtomicInteger::get)
+                .register(meterRegistry);
+        Gauge.builder("auth.upstream.pool.max-per-route", () -> maxPerRoute)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body,
+                                        ClientHttpRequestExecution execution) throws IOException {
+        Semaphore slots = slotsFor(request.getURI());
+        acquire(slots, request.getURI());
+        try {
+            return execution.execute(request, body);
+        } finally {
+            release(slots);
+        }
+    }
+
+    /**
+     * Checkout for the async client, with the same acquire-timeout-ms as the
+     * blocking one but no thread held while waiting: completes with the route's
+     * semaphore (release it with {@link #release}), or fails with the same
+     * ResourceAccessException once the timeout passes.
+     */
+    public CompletableFuture<Semaphore> acquireAsync(URI uri) {
+        Semaphore slots = slotsFor(uri);
+        CompletableFuture<Semaphore> slot = new CompletableFuture<>();
+        long start = System.nanoTime();
+        waiting.incrementAndGet();
+        poll(slots, uri, slot, start, start + TimeUnit.MILLISECONDS.toNanos(acquireTimeoutMillis));
+        return slot;
+    }
+
+    private void poll(Semaphore slots, URI uri, CompletableFuture<Semaphore> slot, long start, long deadline) {
+        if (slots.tryAcquire()) {
+            waiting.decrementAndGet();
+            acquireTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            inFlight.incrementAndGet();
+            slot.complete(slots);
+        } else if (System.nanoTime() - deadline >= 0) {
+            waiting.decrementAndGet();
+            acquireTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            slot.completeExceptionally(
+                    new ResourceAccessException("Timed out waiting for a connection to " + route(uri)));
+        } else {
+            RETRY.execute(() -> poll(slots, uri, slot, start, deadline));
+        }
+    }
+
+    public void release(Semaphore slots) {
+        inFlight.decrementAndGet();
+        slots.release();
+    }
+
+    private void acquire(Semaphore slots, URI uri) {
+        long start = System.nanoTime();
+        waiting.incrementAndGet();
+        try {
+            if (!slots.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new ResourceAccessException("Timed out waiting for a connection to " + route(uri));
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ResourceAccessException("Interrupted waiting for a connection to " + route(uri));
+        } finally {
+            waiting.decrementAndGet();
+            acquireTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        inFlight.incrementAndGet();
+    }
+
+    private Semaphore slotsFor(URI uri) {
+        return routes.computeIfAbsent(route(uri), r -> new Semaphore(maxPerRoute));
+    }
+
+    private static String route(URI uri) {
+        return uri.getScheme() + "://" + uri.getHost() + ":" + uri.getPort();
+    }
+}
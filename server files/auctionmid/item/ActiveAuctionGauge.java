@@ -0,0 +1,66 @@
+package com.aurora.auctionmid.item;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * auction.active{type=FORWARD|DUTCH}: number of ACTIVE auctions.
+ *
+ * Counted in the DB at scrape time, but at most once per refresh-ms per type,
+ * so a tight scrape interval or several scrapers never turn into a COUNT storm.
+ */
+@Component
+public class ActiveAuctionGauge {
+
+    private final ItemRepository itemRepository;
+    private final long refreshNanos;
+
+    public ActiveAuctionGauge(
+            ItemRepository itemRepository,
+            MeterRegistry meterRegistry,
+            @Value("${auction.metrics.active-refresh-ms:15000}") long refreshMillis
+    ) {
+        this.itemRepository = itemRepository;
+        this.refreshNanos = Duration.ofMillis(refreshMillis).toNanos();
+        for (String type : new String[]{"FORWARD", "DUTCH"}) {
+            Gauge.builder("auction.active", new Count(type), this::read)
+                    .description("Auctions currently ACTIVE")
+                    .tag("type", type)
+                    .register(meterRegistry);
+        }
+    }
+
+    private double read(Count count) {
+        long now = System.nanoTime();
+        if (count.lock.tryLock()) {
+            try {
+                if (!count.loaded || now - count.readAt >= refreshNanos) {
+                    count.value.set(itemRepository.countByStatusAndAuctionType("ACTIVE", count.type));
+                    count.readAt = now;
+                    count.loaded = true;
+                }
+            } finally {
+                count.lock.unlock();
+            }
+        }
+        return count.value.get();
+    }
+
+    private static final class Count {
+        final String type;
+        final AtomicLong value = new AtomicLong();
+        final ReentrantLock lock = new ReentrantLock();
+        long readAt;
+        boolean loaded;
+
+        Count(String type) {
+            this.type = type;
+        }
+    }
+}
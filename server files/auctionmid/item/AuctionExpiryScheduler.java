@@ -0,0 +1,262 @@
+package com.aurora.auctionmid.item;
+
+import com.aurora.auctionmid.bid.BidSequencer;
+import com.aurora.auctionmid.cluster.ItemShardRing;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Closes auctions when their endTime passes.
+ *
+ * Deadlines of all ACTIVE items are loaded once at startup into a priority queue
+ * keyed on endTime; new items are added by {@link ItemService#createItem}. Every
+ * tick the due items are closed, so read paths never have to write: an item with
+ * a loaded book under its book lock, on the book's deadline (see
+ * {@link BidSequencer#endIfDue}), and all the others with one batched UPDATE per
+ * chunk. A book loaded in between came from a row already past its end_time, so
+ * it can't have extended the auction. Only items whose row this tick actually
+ * flipped to ENDED are announced.
+ * {@code auction.expiry.lag} records how late each close was.
+ * In partitioned mode a node only closes the items it owns; items created on
+ * another node arrive through their relayed ACTIVE event.
+ */
+@Slf4j
+@Component
+public class AuctionExpiryScheduler {
+
+    private static final ZoneId AUCTION_ZONE = ZoneId.of("America/Toronto");
+    private static final int MAX_IDS_PER_UPDATE = 500;
+
+    private final ItemRepository itemRepository;
+    private final BidSequencer bidSequencer;
+    private final ItemShardRing shardRing;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final long tickMillis;
+    private final Timer expiryLag;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final PriorityQueue<ItemDeadline> queue =
+            new PriorityQueue<>(Comparator.comparing(ItemDeadline::endTime));
+    // current deadline per item; queue entries that no longer match are stale and skipped
+    private final Map<Long, LocalDateTime> deadlines = new HashMap<>();
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "auction-expiry");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public AuctionExpiryScheduler(
+            ItemRepository itemRepository,
+            BidSequencer bidSequencer,
+            ItemShardRing shardRing,
+            ApplicationEventPublisher eventPublisher,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${auction.expiry.tick-ms:250}") long tickMillis
+    ) {
+        this.itemRepository = itemRepository;
+        this.bidSequencer = bidSequencer;
+        this.shardRing = shardRing;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.tickMillis = tickMillis;
+        this.expiryLag = Timer.builder("auction.expiry.lag")
+                .description("Delay between an auction's endTime and the moment it was closed")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("auction.expiry.pending", this, AuctionExpiryScheduler::pendingCount)
+                .description("Auctions waiting for their endTime")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        List<ItemDeadline> active = itemRepository.findActiveDeadlines();
+        active.forEach(d -> schedule(d.itemId(), d.endTime()));
+        log.info("Loaded {} auction deadlines", pendingCount());
+
+        executor.scheduleWithFixedDelay(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Add or move an item's deadline. A null endTime means the auction never
+     * expires on its own.
+     */
+    public void schedule(Long itemId, LocalDateTime endTime) {
+        if (!shardRing.isLocal(itemId)) {
+            return;   // the owner closes it
+        }
+        lock.lock();
+        try {
+            if (endTime == null) {
+                deadlines.remove(itemId);
+                return;
+            }
+            deadlines.put(itemId, endTime);
+            queue.add(new ItemDeadline(itemId, endTime));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * An item created on another node: its deadline is only known here once
+     * the item's ACTIVE event is relayed.
+     */
+    @EventListener
+    public void onStatusChanged(ItemStatusChangedEvent event) {
+        if (!shardRing.isEnabled() || !"ACTIVE".equalsIgnoreCase(event.status())
+                || !shardRing.isLocal(event.itemId()) || isScheduled(event.itemId())) {
+            return;
+        }
+        itemRepository.findById(event.itemId())
+                .filter(item -> "ACTIVE".equalsIgnoreCase(item.getStatus()))
+                .ifPresent(item -> schedule(item.getItemId(), item.getEndTime()));
+    }
+
+    /**
+     * Forget an item that was closed some other way (manual end, Dutch accept).
+     */
+    public void cancel(Long itemId) {
+        lock.lock();
+        try {
+            deadlines.remove(itemId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isScheduled(Long itemId) {
+        lock.lock();
+        try {
+            return deadlines.containsKey(itemId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int pendingCount() {
+        lock.lock();
+        try {
+            return deadlines.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void tick() {
+        LocalDateTime now = ZonedDateTime.now(AUCTION_ZONE).toLocalDateTime();
+        List<ItemDeadline> due = takeDue(now);
+        if (due.isEmpty()) {
+            return;
+        }
+
+        List<ItemDeadline> unloaded = new ArrayList<>(due.size());
+        for (ItemDeadline d : due) {
+            if (bidSequencer.isLoaded(d.itemId())) {
+                closeLoaded(d, now);
+            } else {
+                unloaded.add(d);
+            }
+        }
+        for (int from = 0; from < unloaded.size(); from += MAX_IDS_PER_UPDATE) {
+            closeAll(unloaded.subList(from, Math.min(unloaded.size(), from + MAX_IDS_PER_UPDATE)), now);
+        }
+    }
+
+    private void closeLoaded(ItemDeadline d, LocalDateTime now) {
+        boolean ended;
+        try {
+            ended = bidSequencer.endIfDue(d.itemId(), now);
+        } catch (RuntimeException ex) {
+            // put it back so the next tick retries
+            log.warn("Failed to close expired auction {}", d.itemId(), ex);
+            schedule(d.itemId(), d.endTime());
+            return;
+        }
+        if (ended) {
+            announce(d, now);
+        }
+    }
+
+    private void closeAll(List<ItemDeadline> chunk, LocalDateTime now) {
+        List<Long> itemIds = chunk.stream().map(ItemDeadline::itemId).toList();
+        Set<Long> closed;
+        try {
+            closed = transactionTemplate.execute(tx -> {
+                Set<Long> due = new HashSet<>();
+                itemRepository.findDueForUpdate(itemIds, now).forEach(item -> due.add(item.getItemId()));
+                if (!due.isEmpty()) {
+                    itemRepository.endAll(due);
+                }
+                return due;
+            });
+        } catch (RuntimeException ex) {
+            // put them back so the next tick retries
+            log.warn("Failed to close {} expired auctions", chunk.size(), ex);
+            chunk.forEach(d -> schedule(d.itemId(), d.endTime()));
+            return;
+        }
+        for (ItemDeadline d : chunk) {
+            if (closed.contains(d.itemId())) {
+                bidSequencer.markEnded(d.itemId());
+                announce(d, now);
+            }
+        }
+    }
+
+    private void announce(ItemDeadline d, LocalDateTime now) {
+        expiryLag.record(Duration.between(d.endTime(), now));
+        eventPublisher.publishEvent(new ItemStatusChangedEvent(d.itemId(), "ENDED", null));
+    }
+
+    private List<ItemDeadline> takeDue(LocalDateTime now) {
+        List<ItemDeadline> due = new ArrayList<>();
+        lock.lock();
+        try {
+            while (!queue.isEmpty() && !queue.peek().endTime().isAfter(now)) {
+                ItemDeadline d = queue.poll();
+                if (d.endTime().equals(deadlines.get(d.itemId()))) {
+                    deadlines.remove(d.itemId());
+                    due.add(d);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        return due;
+    }
+}
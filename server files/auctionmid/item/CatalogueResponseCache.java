@@ -0,0 +1,262 @@
+package com.aurora.auctionmid.item;
+
+import com.aurora.auctionmid.bid.BidAcceptedEvent;
+import com.aurora.auctionmid.cache.BoundedCache;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.aurora.auctionmid.metrics.AuctionMetrics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Already-encoded JSON bodies (plus ETags) for the active and ended listings
+ * and for recent search queries.
+ *
+ * Every item's JSON is kept separately and the listing bodies are spliced from
+ * those, so a change only re-encodes the items it touched: an accepted bid
+ * patches the stored snapshot with no DB read, and a status change or new item
+ * re-reads just those rows. Changes are folded in on the next request, at most
+ * once per {@code min-refresh-ms}.
+ *
+ * An active item whose end time has passed is moved to the ended listing on the
+ * first request after that end time, without waiting for the expiry scheduler
+ * to flip its row.
+ */
+@Component
+public class CatalogueResponseCache {
+
+    public record EncodedBody(byte[] json, String etag) {}
+
+    private record EncodedItem(ItemResponse item, byte[] json) {}
+
+    private final ItemRepository itemRepository;
+    private final ObjectMapper objectMapper;
+    private final AuctionMetrics auctionMetrics;
+    private final long minRefreshNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final TreeMap<Long, EncodedItem> active = new TreeMap<>();
+    private final TreeMap<Long, EncodedItem> ended = new TreeMap<>();
+    private volatile EncodedBody activeBody;
+    private volatile EncodedBody endedBody;
+    private volatile boolean loaded;
+    private long lastRefreshNanos;
+    // earliest end time in the active listing; null when none has one
+    private volatile LocalDateTime nextExpiry;
+
+    // changes not yet folded in: highest accepted bid per item, and items to re-read
+    private final Map<Long, BidAcceptedEvent> pendingBids = new ConcurrentHashMap<>();
+    private final Set<Long> pendingReloads = ConcurrentHashMap.newKeySet();
+
+    private final BoundedCache<String, EncodedBody> searches;
+
+    public CatalogueResponseCache(
+            ItemRepository itemRepository,
+            ObjectMapper objectMapper,
+            AuctionMetrics auctionMetrics,
+            MeterRegistry meterRegistry,
+            @Value("${auction.catalogue-cache.min-refresh-ms:250}") long minRefreshMillis,
+            @Value("${auction.catalogue-cache.search-entries:256}") int searchEntries,
+            @Value("${auction.catalogue-cache.search-ttl-ms:30000}") long searchTtlMillis
+    ) {
+        this.itemRepository = itemRepository;
+        this.objectMapper = objectMapper;
+        this.auctionMetrics = auctionMetrics;
+        this.minRefreshNanos = Duration.ofMillis(minRefreshMillis).toNanos();
+        this.searches = new BoundedCache<String, EncodedBody>(searchEntries, Duration.ofMillis(searchTtlMillis))
+                .bindTo(meterRegistry, "catalogue-search");
+    }
+
+    public EncodedBody activeListing() {
+        refreshIfNeeded();
+        return activeBody;
+    }
+
+    public EncodedBody endedListing() {
+        refreshIfNeeded();
+        return endedBody;
+    }
+
+    /**
+     * Cached body for a search query; {@code search} runs only on a miss. Hits
+     * are recorded on the auction.search timer with cache=hit; {@code search}
+     * records the misses itself.
+     */
+    public EncodedBody search(String query, Supplier<List<ItemResponse>> search) {
+        Timer.Sample sample = Timer.start();
+        refreshIfNeeded();
+        String key = query.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+        EncodedBody cached = searches.get(key);
+        if (cached != null) {
+            sample.stop(auctionMetrics.timer("auction.search", "success", "none", "cache", "hit"));
+            return cached;
+        }
+        return searches.get(key, k -> {
+            List<byte[]> parts = new ArrayList<>();
+            search.get().forEach(item -> parts.add(encode(item)));
+            return join(parts);
+        });
+    }
+
+    @EventListener
+    public void onBidAccepted(BidAcceptedEvent event) {
+        pendingBids.merge(event.itemId(), event,
+                (a, b) -> b.amount().compareTo(a.amount()) > 0 ? b : a);
+    }
+
+    @EventListener
+    public void onStatusChanged(ItemStatusChangedEvent event) {
+        pendingReloads.add(event.itemId());
+    }
+
+    private void refreshIfNeeded() {
+        boolean pending = !pendingBids.isEmpty() || !pendingReloads.isEmpty() || expiryDue();
+        if (loaded && !pending) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (!loaded) {
+                loadAll();
+            } else if (System.nanoTime() - lastRefreshNanos >= minRefreshNanos) {
+                applyPending();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean expiryDue() {
+        LocalDateTime next = nextExpiry;
+        return next != null && !next.isAfter(ItemService.now());
+    }
+
+    private void loadAll() {
+        pendingBids.clear();
+        pendingReloads.clear();
+        itemRepository.findByStatus("ACTIVE").forEach(this::place);
+        itemRepository.findByStatus("ENDED").forEach(this::place);
+        rebuildBodies();
+        loaded = true;
+    }
+
+    private void applyPending() {
+        if (pendingBids.isEmpty() && pendingReloads.isEmpty() && !expiryDue()) {
+            return;
+        }
+
+        List<Long> reloadIds = new ArrayList<>(pendingReloads);
+        pendingReloads.removeAll(reloadIds);
+        reloadIds.forEach(id -> {
+            active.remove(id);
+            ended.remove(id);
+        });
+        itemRepository.findAllById(reloadIds).forEach(this::place);
+
+        for (Long itemId : new ArrayList<>(pendingBids.keySet())) {
+            BidAcceptedEvent bid = pendingBids.remove(itemId);
+            EncodedItem current = active.get(itemId);
+            if (bid != null && current != null
+                    && bid.amount().compareTo(current.item().currentPrice()) > 0) {
+                ItemResponse updated = current.item().withBid(bid.amount(), bid.bidderId(), bid.endTime());
+                active.put(itemId, new EncodedItem(updated, encode(updated)));
+            }
+        }
+
+        moveExpired();
+        rebuildBodies();
+        searches.invalidateAll();
+    }
+
+    private void place(ItemEntity entity) {
+        ItemResponse item = ItemService.toResponse(entity);
+        if ("ACTIVE".equalsIgnoreCase(item.status()) && isExpired(item, ItemService.now())) {
+            item = item.withStatus("ENDED");
+        }
+        EncodedItem encoded = new EncodedItem(item, encode(item));
+        if ("ACTIVE".equalsIgnoreCase(item.status())) {
+            active.put(item.itemId(), encoded);
+        } else if ("ENDED".equalsIgnoreCase(item.status())) {
+            ended.put(item.itemId(), encoded);
+        }
+    }
+
+    // shown as ENDED, as ItemService does for a row the scheduler hasn't closed yet
+    private void moveExpired() {
+        LocalDateTime now = ItemService.now();
+        List<EncodedItem> expired = active.values().stream()
+                .filter(e -> isExpired(e.item(), now))
+                .toList();
+        for (EncodedItem e : expired) {
+            ItemResponse item = e.item().withStatus("ENDED");
+            active.remove(item.itemId());
+            ended.put(item.itemId(), new EncodedItem(item, encode(item)));
+        }
+    }
+
+    private static boolean isExpired(ItemResponse item, LocalDateTime now) {
+        return item.endTime() != null && !item.endTime().isAfter(now);
+    }
+
+    private void rebuildBodies() {
+        activeBody = join(jsonOf(active.values()));
+        endedBody = join(jsonOf(ended.values()));
+        nextExpiry = active.values().stream()
+                .map(e -> e.item().endTime())
+                .filter(Objects::nonNull)
+                .min(LocalDateTime::compareTo)
+                .orElse(null);
+        lastRefreshNanos = System.nanoTime();
+    }
+
+    private static List<byte[]> jsonOf(Collection<EncodedItem> items) {
+        List<byte[]> parts = new ArrayList<>(items.size());
+        items.forEach(e -> parts.add(e.json()));
+        return parts;
+    }
+
+    private static EncodedBody join(List<byte[]> parts) {
+        int size = 2 + Math.max(0, parts.size() - 1);
+        for (byte[] p : parts) {
+            size += p.length;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(size);
+        out.write('[');
+        for (int i = 0; i < parts.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            out.writeBytes(parts.get(i));
+        }
+        out.write(']');
+        byte[] json = out.toByteArray();
+        return new EncodedBody(json, "\"" + DigestUtils.md5DigestAsHex(json) + "\"");
+    }
+
+    private byte[] encode(ItemResponse item) {
+        try {
+            return objectMapper.writeValueAsBytes(item);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not encode item " + item.itemId(), ex);
+        }
+    }
+}
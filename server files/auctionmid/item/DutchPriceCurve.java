@@ -0,0 +1,85 @@
+package com.aurora.auctionmid.item;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Closed-form price schedule of one Dutch auction.
+ *
+ * The price falls linearly from startingPrice to minimumPrice between createdAt
+ * and endTime, in whole steps of {@code stepMillis}, using long cents only, so
+ * the same instant always gives the same price on every node.
+ */
+record DutchPriceCurve(
+        long startCents,
+        long minCents,
+        long startMillis,
+        long endMillis,
+        long stepMillis,
+        long deadlineMillis      // endTime, or Long.MAX_VALUE when there is none
+) {
+
+    static DutchPriceCurve of(ItemEntity item, long stepMillis, ZoneId zone) {
+        long start = toCents(item.getStartingPrice());
+        long deadline = item.getEndTime() != null ? toMillis(item.getEndTime(), zone) : Long.MAX_VALUE;
+        if (item.getCreatedAt() == null || item.getEndTime() == null) {
+            // no window to fall over: flat at the stored price
+            long flat = toCents(item.getCurrentPrice());
+            return new DutchPriceCurve(flat, flat, 0L, 0L, stepMillis, deadline);
+        }
+        long min = item.getMinimumPrice() != null ? toCents(item.getMinimumPrice()) : 0L;
+        return new DutchPriceCurve(
+                start,
+                Math.min(min, start),
+                toMillis(item.getCreatedAt(), zone),
+                toMillis(item.getEndTime(), zone),
+                Math.max(1L, stepMillis),
+                deadline
+        );
+    }
+
+    long priceCentsAt(long nowMillis) {
+        long total = endMillis - startMillis;
+        if (total <= 0) {
+            return nowMillis < startMillis ? startCents : minCents;
+        }
+        long elapsed = nowMillis - startMillis;
+        if (elapsed < 0) {
+            return startCents;
+        }
+        if (elapsed >= total) {
+            return minCents;
+        }
+        long totalSteps = (total + stepMillis - 1) / stepMillis;
+        long step = elapsed / stepMillis;
+        long range = startCents - minCents;
+        // drop rounds down, so the price never undercuts the exact line
+        long drop;
+        try {
+            drop = Math.multiplyExact(range, step) / totalSteps;
+        } catch (ArithmeticException overflow) {
+            drop = BigInteger.valueOf(range).multiply(BigInteger.valueOf(step))
+                    .divide(BigInteger.valueOf(totalSteps)).longValueExact();
+        }
+        return startCents - drop;
+    }
+
+    boolean endedAt(LocalDateTime now, ZoneId zone) {
+        return toMillis(now, zone) > deadlineMillis;
+    }
+
+    BigDecimal priceAt(LocalDateTime now, ZoneId zone) {
+        return BigDecimal.valueOf(priceCentsAt(toMillis(now, zone)), 2);
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private static long toMillis(LocalDateTime time, ZoneId zone) {
+        return time.atZone(zone).toInstant().toEpochMilli();
+    }
+}
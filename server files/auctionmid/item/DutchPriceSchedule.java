@@ -0,0 +1,126 @@
+package com.aurora.auctionmid.item;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Precomputed price curves of Dutch auctions.
+ *
+ * Curves of active items are loaded once (all active Dutch items at startup,
+ * others on first request), so price queries are answered from memory. A curve
+ * is dropped when its item leaves ACTIVE; after that the item's status in the
+ * DB is what says it can no longer be bought. The schedule also lets exactly
+ * one buyer per item claim it in memory before the conditional UPDATE in
+ * {@link ItemService#acceptDutch}.
+ */
+@Slf4j
+@Component
+public class DutchPriceSchedule {
+
+    private static final ZoneId AUCTION_ZONE = ZoneId.of("America/Toronto");
+
+    private final ItemRepository itemRepository;
+    private final long stepMillis;
+    // active items only
+    private final Map<Long, DutchPriceCurve> curves = new ConcurrentHashMap<>();
+    // active items claimed by a buyer whose accept is in flight
+    private final Set<Long> claimed = ConcurrentHashMap.newKeySet();
+
+    public DutchPriceSchedule(
+            ItemRepository itemRepository,
+            @Value("${auction.dutch.step-ms:1000}") long stepMillis
+    ) {
+        this.itemRepository = itemRepository;
+        this.stepMillis = stepMillis;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<ItemEntity> active = itemRepository.findByStatusAndAuctionType("ACTIVE", "DUTCH");
+        active.forEach(item -> curves.put(item.getItemId(), curveOf(item)));
+        log.info("Loaded {} Dutch price curves", active.size());
+    }
+
+    /**
+     * Current price of a Dutch item; only the first call for an active item not
+     * seen at startup reads the DB.
+     */
+    public BigDecimal currentPrice(Long itemId, LocalDateTime now) {
+        return curveFor(itemId).priceAt(now, AUCTION_ZONE);
+    }
+
+    DutchPriceCurve curveFor(Long itemId) {
+        DutchPriceCurve curve = curves.get(itemId);
+        if (curve != null) {
+            return curve;
+        }
+        ItemEntity item = itemRepository.findById(itemId)
+                .orElseThrow(() -> new IllegalArgumentException("Item not found"));
+        if (!"DUTCH".equalsIgnoreCase(item.getAuctionType())) {
+            throw new IllegalArgumentException("Not a Dutch auction");
+        }
+        if (!"ACTIVE".equalsIgnoreCase(item.getStatus())) {
+            return curveOf(item);   // not kept: closed items are never bought again
+        }
+        return curves.computeIfAbsent(itemId, id -> curveOf(item));
+    }
+
+    /**
+     * True once the item has left ACTIVE or is claimed; asked after {@link #curveFor},
+     * which keeps a curve for every item still active.
+     */
+    boolean isClosed(Long itemId) {
+        return claimed.contains(itemId) || !curves.containsKey(itemId);
+    }
+
+    /**
+     * First caller wins; everyone after gets false until {@link #release}.
+     */
+    boolean tryClaim(Long itemId) {
+        return claimed.add(itemId);
+    }
+
+    /**
+     * Undo a claim whose UPDATE failed with an error (not one that lost the race).
+     */
+    void release(Long itemId) {
+        claimed.remove(itemId);
+    }
+
+    /**
+     * Forget an item the DB says is no longer active.
+     */
+    void close(Long itemId) {
+        curves.remove(itemId);
+        claimed.remove(itemId);
+    }
+
+    /**
+     * Price of an already loaded item at {@code now}, on the same curve as {@link #currentPrice}.
+     */
+    public BigDecimal priceAt(ItemEntity item, LocalDateTime now) {
+        return curveOf(item).priceAt(now, AUCTION_ZONE);
+    }
+
+    @EventListener
+    public void onStatusChanged(ItemStatusChangedEvent event) {
+        if (!"ACTIVE".equalsIgnoreCase(event.status())) {
+            close(event.itemId());
+        }
+    }
+
+    private DutchPriceCurve curveOf(ItemEntity item) {
+        return DutchPriceCurve.of(item, stepMillis, AUCTION_ZONE);
+    }
+}
@@ -1,7 +1,9 @@
 package com.aurora.auctionmid.item;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -15,6 +17,7 @@ import java.util.Map;
 public class ItemController {
 
     private final ItemService itemService;
+    private final CatalogueResponseCache catalogueCache;
 
     @GetMapping
     public List<ItemResponse> getAllItems() {
@@ -22,13 +25,36 @@ public class ItemController {
     }
 
     @GetMapping("/active")
-    public List<ItemResponse> getActiveItems() {
-        return itemService.listActiveItems();
+    public ResponseEntity<byte[]> getActiveItems(
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        return encoded(catalogueCache.activeListing(), ifNoneMatch);
     }
 
     @GetMapping("/ended")
-    public List<ItemResponse> getEndedItems() {
-        return itemService.listEndedItems();
+    public ResponseEntity<byte[]> getEndedItems(
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        return encoded(catalogueCache.endedListing(), ifNoneMatch);
+    }
+
+    /**
+     * GET /api/items/page?status=ACTIVE&sort=endTime&cursor=...&limit=50
+     * Keyset-paginated listing; follow nextCursor for the next page.
+     */
+    @GetMapping("/page")
+    public ResponseEntity<?> getItemsPage(
+            @RequestParam(name = "status", required = false) String status,
+            @RequestParam(name = "sort", required = false) String sort,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "limit", required = false) Integer limit
+    ) {
+        try {
+            return ResponseEntity.ok(itemService.listItemsPage(status, sort, cursor, limit));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", ex.getMessage()));
+        }
     }
 
     @PostMapping
@@ -54,10 +80,14 @@ public class ItemController {
     }
 
     @GetMapping("/search")
-    public List<ItemResponse> searchItems(
-            @RequestParam(name = "q", required = false) String query
+    public ResponseEntity<?> searchItems(
+            @RequestParam(name = "q", required = false) String query,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
-        return itemService.searchItems(query);
+        if (query == null || query.isBlank()) {
+            return ResponseEntity.ok(itemService.searchItems(query));
+        }
+        return encoded(catalogueCache.search(query, () -> itemService.searchItems(query)), ifNoneMatch);
     }
 
     @PostMapping("/{itemId}/end")
@@ -82,6 +112,20 @@ public class ItemController {
         }
     }
 
+    /**
+     * GET /api/items/receipts?buyerId=...
+     * Every receipt for items won by this buyer, resolved in one query.
+     */
+    @GetMapping("/receipts")
+    public ResponseEntity<?> getReceiptsForBuyer(@RequestParam(name = "buyerId", required = false) Long buyerId) {
+        try {
+            return ResponseEntity.ok(itemService.getReceiptsForBuyer(buyerId));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", ex.getMessage()));
+        }
+    }
+
     /**
      * POST /api/items/{itemId}/pay
      * Simulate payment by the winning bidder.
@@ -97,4 +141,18 @@ public class ItemController {
                     .body(Map.of("error", ex.getMessage()));
         }
     }
+
+    // ---- Pre-encoded listings ----
+
+    private static ResponseEntity<byte[]> encoded(CatalogueResponseCache.EncodedBody body, String ifNoneMatch) {
+        if (ifNoneMatch != null && (ifNoneMatch.contains(body.etag()) || ifNoneMatch.trim().equals("*"))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(body.etag())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(body.etag())
+                .body(body.json());
+    }
 }
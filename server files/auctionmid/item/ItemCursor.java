@@ -0,0 +1,33 @@
+package com.aurora.auctionmid.item;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of the last row of a page: (endTime, itemId) when sorting by end time,
+ * itemId alone otherwise. Encoded as an opaque URL-safe string for clients.
+ */
+record ItemCursor(LocalDateTime endTime, Long itemId) {
+
+    String encode() {
+        String raw = (endTime != null ? endTime.toString() : "") + "|" + itemId;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static ItemCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.indexOf('|');
+            String end = raw.substring(0, sep);
+            return new ItemCursor(
+                    end.isEmpty() ? null : LocalDateTime.parse(end),
+                    Long.parseLong(raw.substring(sep + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.aurora.auctionmid.item;
+
+import java.time.LocalDateTime;
+
+/**
+ * Minimal projection used to seed the expiry schedule.
+ */
+public record ItemDeadline(
+        Long itemId,
+        LocalDateTime endTime     // AUCTION_ZONE local time
+) {}
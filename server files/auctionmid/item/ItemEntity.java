@@ -7,7 +7,16 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "items")
+@Table(name = "items", indexes = {
+        // ACTIVE/ENDED listings, expiry deadlines, status pages ordered by end time
+        @Index(name = "idx_items_status_end", columnList = "status, end_time"),
+        // active-auction gauge and per-type listings
+        @Index(name = "idx_items_status_type", columnList = "status, auction_type"),
+        // seller dashboard: one range scan per (seller, status), ending soonest first
+        @Index(name = "idx_items_seller_status_end", columnList = "seller_id, status, end_time"),
+        // buyer dashboard: items a user leads or won, optionally still unpaid
+        @Index(name = "idx_items_winner_payment", columnList = "current_winner_id, payment_status")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,12 @@
+package com.aurora.auctionmid.item;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated item listing.
+ * Pass nextCursor back as ?cursor= to get the following page; null means last page.
+ */
+public record ItemPage(
+        List<ItemResponse> items,
+        String nextCursor
+) {}
@@ -1,20 +1,186 @@
 package com.aurora.auctionmid.item;
 
+import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface ItemRepository extends JpaRepository<ItemEntity, Long> {
 
+    String RECEIPT_SELECT = "select new com.aurora.auctionmid.item.ReceiptRow("
+            + "i.itemId, i.title, i.auctionType, i.status, i.currentPrice, i.createdAt, i.endTime, "
+            + "i.currentWinnerId, i.paymentStatus, i.paymentTime, "
+            + "s.userId, s.username, s.firstName, s.lastName, s.email, "
+            + "b.userId, b.username, b.firstName, b.lastName, b.email) "
+            + "from ItemEntity i "
+            + "left join UserEntity s on s.userId = i.sellerId "
+            + "left join UserEntity b on b.userId = i.currentWinnerId ";
+
     List<ItemEntity> findByStatus(String status);
 
+    @Query("select i.status from ItemEntity i where i.itemId = :itemId")
+    Optional<String> findStatus(@Param("itemId") Long itemId);
+
+    long countByStatusAndAuctionType(String status, String auctionType);
+
+    List<ItemEntity> findByStatusAndAuctionType(String status, String auctionType);
+
+    // ---- Keyset pages (first page passes afterId = 0) ----
+
+    List<ItemEntity> findByItemIdGreaterThanOrderByItemIdAsc(Long afterId, Pageable page);
+
+    List<ItemEntity> findByStatusAndItemIdGreaterThanOrderByItemIdAsc(
+            String status, Long afterId, Pageable page);
+
+    List<ItemEntity> findByStatusAndEndTimeNotNullOrderByEndTimeAscItemIdAsc(
+            String status, Pageable page);
+
+    @Query("select i from ItemEntity i where i.status = :status and i.endTime is not null "
+            + "and (i.endTime > :endTime or (i.endTime = :endTime and i.itemId > :itemId)) "
+            + "order by i.endTime asc, i.itemId asc")
+    List<ItemEntity> findByStatusAfterEndTime(@Param("status") String status,
+                                              @Param("endTime") LocalDateTime endTime,
+                                              @Param("itemId") Long itemId,
+                                              Pageable page);
+
     List<ItemEntity> findBySellerId(Long sellerId);
 
     List<ItemEntity> findBySellerIdAndStatus(Long sellerId, String status);
 
+    // ---- Seller dashboard, on idx_items_seller_status_end (seller_id, status, end_time) ----
+    // MySQL sorts NULL first, so items without an endTime come first, by itemId
+
+    List<ItemEntity> findBySellerIdAndStatusOrderByEndTimeAscItemIdAsc(
+            Long sellerId, String status, Pageable page);
+
+    @Query("select i from ItemEntity i where i.sellerId = :sellerId and i.status = :status "
+            + "and i.endTime is null and i.itemId > :itemId order by i.itemId asc")
+    List<ItemEntity> findSellerPageWithoutEndTime(@Param("sellerId") Long sellerId,
+                                                  @Param("status") String status,
+                                                  @Param("itemId") Long itemId,
+                                                  Pageable page);
+
+    List<ItemEntity> findBySellerIdAndStatusAndEndTimeNotNullOrderByEndTimeAscItemIdAsc(
+            Long sellerId, String status, Pageable page);
+
+    @Query("select i from ItemEntity i where i.sellerId = :sellerId and i.status = :status "
+            + "and (i.endTime > :endTime or (i.endTime = :endTime and i.itemId > :itemId)) "
+            + "order by i.endTime asc, i.itemId asc")
+    List<ItemEntity> findSellerPageAfter(@Param("sellerId") Long sellerId,
+                                         @Param("status") String status,
+                                         @Param("endTime") LocalDateTime endTime,
+                                         @Param("itemId") Long itemId,
+                                         Pageable page);
+
+    // ---- Buyer dashboard, on idx_items_winner_payment (current_winner_id, payment_status) ----
+    // newest first; a null status matches everything. Two queries rather than an
+    // optional payment filter, so the filtered one can seek on both index columns.
+
+    @Query("select i from ItemEntity i where i.currentWinnerId = :buyerId "
+            + "and (:status is null or i.status = :status) "
+            + "and i.itemId < :beforeId order by i.itemId desc")
+    List<ItemEntity> findBuyerPage(@Param("buyerId") Long buyerId,
+                                   @Param("status") String status,
+                                   @Param("beforeId") Long beforeId,
+                                   Pageable page);
+
+    @Query("select i from ItemEntity i where i.currentWinnerId = :buyerId "
+            + "and i.paymentStatus = :paymentStatus "
+            + "and (:status is null or i.status = :status) "
+            + "and i.itemId < :beforeId order by i.itemId desc")
+    List<ItemEntity> findBuyerPageByPaymentStatus(@Param("buyerId") Long buyerId,
+                                                  @Param("status") String status,
+                                                  @Param("paymentStatus") String paymentStatus,
+                                                  @Param("beforeId") Long beforeId,
+                                                  Pageable page);
+
     // simple text search on title OR description (case-insensitive)
     List<ItemEntity> findByTitleContainingIgnoreCaseOrDescriptionContainingIgnoreCase(
             String titlePart,
             String descriptionPart
     );
+
+    // update only the bid columns, so a concurrent status change is never overwritten;
+    // only ever raises the price, so a writer working from a stale view can't move it back down
+    @Modifying
+    @Transactional
+    @Query("update ItemEntity i set i.currentPrice = :price, i.currentWinnerId = :winnerId, "
+            + "i.endTime = :endTime where i.itemId = :itemId and i.currentPrice < :price")
+    int updateLeadingBid(@Param("itemId") Long itemId,
+                         @Param("price") BigDecimal price,
+                         @Param("winnerId") Long winnerId,
+                         @Param("endTime") LocalDateTime endTime);
+
+    @Modifying
+    @Transactional
+    @Query("update ItemEntity i set i.status = 'ENDED' "
+            + "where i.itemId = :itemId and i.status = 'ACTIVE'")
+    int endIfActive(@Param("itemId") Long itemId);
+
+    @Query("select new com.aurora.auctionmid.item.ItemDeadline(i.itemId, i.endTime) "
+            + "from ItemEntity i where i.status = 'ACTIVE' and i.endTime is not null")
+    List<ItemDeadline> findActiveDeadlines();
+
+    // close used by AuctionExpiryScheduler for an item with a loaded book; the end_time
+    // guard skips an item whose deadline moved
+    @Modifying
+    @Transactional
+    @Query("update ItemEntity i set i.status = 'ENDED' "
+            + "where i.itemId = :itemId and i.status = 'ACTIVE' and i.endTime <= :now")
+    int endIfDue(@Param("itemId") Long itemId,
+                 @Param("now") LocalDateTime now);
+
+    // batched expiry of items without a book: lock the rows still due, then end exactly
+    // those, in the caller's transaction, so the caller knows which ones it closed
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select i from ItemEntity i "
+            + "where i.itemId in :itemIds and i.status = 'ACTIVE' and i.endTime <= :now")
+    List<ItemEntity> findDueForUpdate(@Param("itemIds") Collection<Long> itemIds,
+                                      @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("update ItemEntity i set i.status = 'ENDED' "
+            + "where i.itemId in :itemIds and i.status = 'ACTIVE'")
+    int endAll(@Param("itemIds") Collection<Long> itemIds);
+
+    // Dutch accept: only the first buyer to reach an ACTIVE, unexpired item gets a row back
+    @Modifying
+    @Transactional
+    @Query("update ItemEntity i set i.status = 'ENDED', i.currentWinnerId = :buyerId, "
+            + "i.currentPrice = :price "
+            + "where i.itemId = :itemId and i.auctionType = 'DUTCH' and i.status = 'ACTIVE' "
+            + "and (i.endTime is null or i.endTime >= :now)")
+    int acceptDutchIfActive(@Param("itemId") Long itemId,
+                            @Param("buyerId") Long buyerId,
+                            @Param("price") BigDecimal price,
+                            @Param("now") LocalDateTime now);
+
+    // ---- Receipts: item + seller + buyer in one statement, no password_hash ----
+
+    @Query(RECEIPT_SELECT + "where i.itemId = :itemId")
+    Optional<ReceiptRow> findReceiptRow(@Param("itemId") Long itemId);
+
+    @Query(RECEIPT_SELECT + "where i.currentWinnerId = :buyerId and i.status = 'ENDED' "
+            + "order by i.endTime desc, i.itemId desc")
+    List<ReceiptRow> findReceiptRowsByBuyer(@Param("buyerId") Long buyerId);
+
+    @Modifying
+    @Transactional
+    @Query("update ItemEntity i set i.paymentStatus = 'PAID', i.paymentTime = :paidAt "
+            + "where i.itemId = :itemId and i.status = 'ENDED' and i.currentWinnerId = :payerId "
+            + "and i.paymentStatus <> 'PAID'")
+    int markPaid(@Param("itemId") Long itemId,
+                 @Param("payerId") Long payerId,
+                 @Param("paidAt") LocalDateTime paidAt);
 }
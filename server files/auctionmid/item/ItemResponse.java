@@ -29,4 +29,19 @@ public record ItemResponse(
         String category,
         String keywords,
         Integer quantity
-) {}
+) {
+
+    ItemResponse withBid(BigDecimal price, Long winnerId, LocalDateTime newEndTime) {
+        return new ItemResponse(itemId, sellerId, title, description, startingPrice, price,
+                minimumPrice, auctionType, status, winnerId, createdAt, newEndTime,
+                conditionCode, coverImageUrl, shipCostStd, shipCostExp, shipDays,
+                category, keywords, quantity);
+    }
+
+    ItemResponse withStatus(String newStatus) {
+        return new ItemResponse(itemId, sellerId, title, description, startingPrice, currentPrice,
+                minimumPrice, auctionType, newStatus, currentWinnerId, createdAt, endTime,
+                conditionCode, coverImageUrl, shipCostStd, shipCostExp, shipDays,
+                category, keywords, quantity);
+    }
+}
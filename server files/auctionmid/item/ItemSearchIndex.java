@@ -0,0 +1,337 @@
+package com.aurora.auctionmid.item;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process inverted index over item title, description, category and keywords.
+ *
+ * Terms are lowercased alphanumeric runs. Each term maps to a postings list of
+ * (doc, weight) pairs kept in parallel int arrays, where doc is a dense ordinal
+ * assigned in insertion order, so every list stays sorted without re-sorting.
+ * All query terms must match; the last one is matched as a prefix so results
+ * keep up with the browse page's search-as-you-type. Only ACTIVE items are
+ * indexed: an auction that ends or is paid for drops out of search.
+ */
+@Slf4j
+@Component
+public class ItemSearchIndex {
+
+    // field weights used for ranking
+    private static final int TITLE_WEIGHT = 4;
+    private static final int KEYWORDS_WEIGHT = 3;
+    private static final int CATEGORY_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    private static final int MAX_PREFIX_TERMS = 256;
+    private static final int REBUILD_PAGE_SIZE = 1000;
+
+    private final ItemRepository itemRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private TreeMap<String, Postings> terms = new TreeMap<>();
+    private Map<Long, Integer> docByItemId = new HashMap<>();
+    private long[] itemIdByDoc = new long[1024];
+    private int docCount;
+    // docs of items no longer indexed; postings are append-only, so search skips them
+    private BitSet removed = new BitSet();
+    private volatile boolean ready;
+
+    public ItemSearchIndex(ItemRepository itemRepository) {
+        this.itemRepository = itemRepository;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Rebuild the whole index from the ACTIVE items, paging by item_id.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        ItemSearchIndex fresh = new ItemSearchIndex(itemRepository);
+        long afterId = 0;
+        List<ItemEntity> page;
+        do {
+            page = itemRepository.findByItemIdGreaterThanOrderByItemIdAsc(
+                    afterId, PageRequest.of(0, REBUILD_PAGE_SIZE));
+            page.stream()
+                    .filter(item -> "ACTIVE".equalsIgnoreCase(item.getStatus()))
+                    .forEach(fresh::addUnlocked);
+            if (!page.isEmpty()) {
+                afterId = page.get(page.size() - 1).getItemId();
+            }
+        } while (page.size() == REBUILD_PAGE_SIZE);
+
+        lock.writeLock().lock();
+        try {
+            // items created while we were rebuilding are already in the old index
+            for (int doc = 0; doc < docCount; doc++) {
+                if (!fresh.docByItemId.containsKey(itemIdByDoc[doc])) {
+                    log.debug("Item {} created during rebuild, re-fetching", itemIdByDoc[doc]);
+                    itemRepository.findById(itemIdByDoc[doc])
+                            .filter(item -> "ACTIVE".equalsIgnoreCase(item.getStatus()))
+                            .ifPresent(fresh::addUnlocked);
+                }
+            }
+            this.terms = fresh.terms;
+            this.docByItemId = fresh.docByItemId;
+            this.itemIdByDoc = fresh.itemIdByDoc;
+            this.docCount = fresh.docCount;
+            this.removed = fresh.removed;
+            this.ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Search index built: {} items, {} terms", docCount, terms.size());
+    }
+
+    /**
+     * Index a newly created item.
+     */
+    public void add(ItemEntity item) {
+        lock.writeLock().lock();
+        try {
+            addUnlocked(item);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drop items that leave ACTIVE, and pick up ones created on other nodes in
+     * partitioned mode, which reach this node only as their relayed ACTIVE
+     * event. Only that last case costs a lookup.
+     */
+    @EventListener
+    public void onStatusChanged(ItemStatusChangedEvent event) {
+        Long itemId = event.itemId();
+        if (!"ACTIVE".equalsIgnoreCase(event.status())) {
+            remove(itemId);
+            return;
+        }
+        if (isIndexed(itemId)) {
+            return;   // created here; createItem indexed it
+        }
+        try {
+            itemRepository.findById(itemId)
+                    .filter(item -> "ACTIVE".equalsIgnoreCase(item.getStatus()))
+                    .ifPresent(this::add);
+        } catch (RuntimeException ex) {
+            // the publisher's work is done; the rebuild at the next start picks the item up
+            log.warn("Could not update search index for item {}", itemId, ex);
+        }
+    }
+
+    private boolean isIndexed(Long itemId) {
+        lock.readLock().lock();
+        try {
+            return docByItemId.containsKey(itemId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void remove(Long itemId) {
+        lock.writeLock().lock();
+        try {
+            Integer doc = docByItemId.remove(itemId);
+            if (doc != null) {
+                removed.set(doc);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Item ids matching every term of the query, best match first.
+     */
+    public List<Long> search(String query, int limit) {
+        List<String> queryTerms = tokenize(query);
+        if (queryTerms.isEmpty()) {
+            return List.of();
+        }
+
+        Postings result;
+        lock.readLock().lock();
+        try {
+            result = null;
+            for (int i = 0; i < queryTerms.size(); i++) {
+                boolean last = i == queryTerms.size() - 1;
+                Postings p = last ? prefixPostings(queryTerms.get(i)) : terms.get(queryTerms.get(i));
+                if (p == null || p.size == 0) {
+                    return List.of();
+                }
+                result = result == null ? p : result.intersect(p);
+                if (result.size == 0) {
+                    return List.of();
+                }
+            }
+            return topItemIds(result, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ---- internals (callers hold the write lock, or own an unpublished index) ----
+
+    private void addUnlocked(ItemEntity item) {
+        if (item.getItemId() == null || docByItemId.containsKey(item.getItemId())) {
+            return;
+        }
+        int doc = docCount++;
+        if (doc == itemIdByDoc.length) {
+            itemIdByDoc = Arrays.copyOf(itemIdByDoc, doc * 2);
+        }
+        itemIdByDoc[doc] = item.getItemId();
+        docByItemId.put(item.getItemId(), doc);
+
+        indexField(doc, item.getTitle(), TITLE_WEIGHT);
+        indexField(doc, item.getKeywords(), KEYWORDS_WEIGHT);
+        indexField(doc, item.getCategory(), CATEGORY_WEIGHT);
+        indexField(doc, item.getDescription(), DESCRIPTION_WEIGHT);
+    }
+
+    private void indexField(int doc, String text, int weight) {
+        for (String term : tokenize(text)) {
+            terms.computeIfAbsent(term, t -> new Postings(4)).append(doc, weight);
+        }
+    }
+
+    /**
+     * Union of the postings of every term starting with {@code prefix}, weights summed per doc.
+     */
+    private Postings prefixPostings(String prefix) {
+        SortedMap<String, Postings> matches = terms.subMap(prefix, prefix + Character.MAX_VALUE);
+        if (matches.size() == 1) {
+            return matches.values().iterator().next();
+        }
+
+        int total = 0;
+        int expanded = 0;
+        for (Postings p : matches.values()) {
+            if (expanded++ == MAX_PREFIX_TERMS) break;
+            total += p.size;
+        }
+        // pack (doc, weight) into longs so one sort orders by doc
+        long[] packed = new long[total];
+        int n = 0;
+        expanded = 0;
+        for (Postings p : matches.values()) {
+            if (expanded++ == MAX_PREFIX_TERMS) break;
+            for (int i = 0; i < p.size; i++) {
+                packed[n++] = ((long) p.docs[i] << 32) | p.weights[i];
+            }
+        }
+        Arrays.sort(packed);
+
+        Postings union = new Postings(Math.max(total, 1));
+        for (long v : packed) {
+            union.append((int) (v >>> 32), (int) v);
+        }
+        return union;
+    }
+
+    private List<Long> topItemIds(Postings result, int limit) {
+        long[] ranked = new long[result.size];
+        int live = 0;
+        for (int i = 0; i < result.size; i++) {
+            if (removed.get(result.docs[i])) {
+                continue;
+            }
+            // higher weight first, then older item first
+            ranked[live++] = ((long) (Integer.MAX_VALUE - result.weights[i]) << 32) | result.docs[i];
+        }
+        ranked = live == ranked.length ? ranked : Arrays.copyOf(ranked, live);
+        Arrays.sort(ranked);
+
+        int n = Math.min(limit, ranked.length);
+        List<Long> ids = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            ids.add(itemIdByDoc[(int) ranked[i]]);
+        }
+        return ids;
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> tokens = new ArrayList<>();
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean word = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (word && start < 0) {
+                start = i;
+            } else if (!word && start >= 0) {
+                tokens.add(lower.substring(start, i));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Sorted (doc, weight) pairs in parallel primitive arrays.
+     */
+    private static final class Postings {
+        int[] docs;
+        int[] weights;
+        int size;
+
+        Postings(int capacity) {
+            docs = new int[capacity];
+            weights = new int[capacity];
+        }
+
+        // docs arrive in ascending order; repeats of the last doc add to its weight
+        void append(int doc, int weight) {
+            if (size > 0 && docs[size - 1] == doc) {
+                weights[size - 1] += weight;
+                return;
+            }
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            docs[size] = doc;
+            weights[size] = weight;
+            size++;
+        }
+
+        Postings intersect(Postings other) {
+            Postings out = new Postings(Math.max(1, Math.min(size, other.size)));
+            int i = 0;
+            int j = 0;
+            while (i < size && j < other.size) {
+                if (docs[i] < other.docs[j]) {
+                    i++;
+                } else if (docs[i] > other.docs[j]) {
+                    j++;
+                } else {
+                    out.append(docs[i], weights[i] + other.weights[j]);
+                    i++;
+                    j++;
+                }
+            }
+            return out;
+        }
+    }
+}
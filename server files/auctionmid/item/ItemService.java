@@ -1,76 +1,209 @@
 package com.aurora.auctionmid.item;
 
-import com.aurora.auctionmid.user.UserEntity;
-import com.aurora.auctionmid.user.UserRepository;
+import com.aurora.auctionmid.bid.BidEventLog;
+import com.aurora.auctionmid.bid.BidSequencer;
+import com.aurora.auctionmid.metrics.AuctionMetrics;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
-import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 @Service
 @RequiredArgsConstructor
 public class ItemService {
 
     private final ItemRepository itemRepository;
-    private final UserRepository userRepository;
+    private final BidSequencer bidSequencer;
+    private final BidEventLog bidEventLog;
+    private final AuctionExpiryScheduler expiryScheduler;
+    private final ItemSearchIndex searchIndex;
+    private final DutchPriceSchedule dutchPriceSchedule;
+    private final ItemSnapshotCache itemSnapshotCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AuctionMetrics auctionMetrics;
 
     // 🔹 All auction timing logic uses this fixed zone
     private static final ZoneId AUCTION_ZONE = ZoneId.of("America/Toronto");
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_RESULTS = 200;
+
     /**
-     * Ensure the item's status matches its endTime using AUCTION_ZONE.
-     * If status is ACTIVE and endTime <= now → flip to ENDED and save.
+     * Reflect an elapsed endTime in the returned view without writing.
+     * AuctionExpiryScheduler does the actual ENDED update in batches, so this
+     * only covers the few milliseconds between a deadline and its tick.
      */
-    private void refreshStatusIfNeeded(ItemEntity item) {
+    private void applyExpiry(ItemEntity item) {
         if (item == null) return;
-        if (!"ACTIVE".equalsIgnoreCase(item.getStatus())) {
-            return;
-        }
-        LocalDateTime endTime = item.getEndTime();
-        if (endTime == null) {
-            return;
+        item.setStatus(effectiveStatus(item.getStatus(), item.getEndTime()));
+    }
+
+    /**
+     * Wall-clock time in the zone end times are stored in.
+     */
+    static LocalDateTime now() {
+        return LocalDateTime.now(AUCTION_ZONE);
+    }
+
+    private String effectiveStatus(String status, LocalDateTime endTime) {
+        if (!"ACTIVE".equalsIgnoreCase(status) || endTime == null) {
+            return status;
         }
 
         ZonedDateTime end = endTime.atZone(AUCTION_ZONE);
         ZonedDateTime now = ZonedDateTime.now(AUCTION_ZONE);
 
-        if (!end.isAfter(now)) {
-            item.setStatus("ENDED");
-            itemRepository.save(item);
-        }
+        return end.isAfter(now) ? status : "ENDED";
     }
 
     public List<ItemResponse> listAllItems() {
         return itemRepository.findAll()
                 .stream()
-                .peek(this::refreshStatusIfNeeded)
-                .map(this::toResponse)
+                .peek(this::applyExpiry)
+                .map(ItemService::toResponse)
                 .toList();
     }
 
     public List<ItemResponse> listActiveItems() {
         List<ItemEntity> items = itemRepository.findByStatus("ACTIVE");
-        items.forEach(this::refreshStatusIfNeeded);
+        items.forEach(this::applyExpiry);
 
         return items.stream()
                 .filter(i -> "ACTIVE".equalsIgnoreCase(i.getStatus()))
-                .map(this::toResponse)
+                .map(ItemService::toResponse)
                 .toList();
     }
 
     public List<ItemResponse> listEndedItems() {
-        List<ItemEntity> all = itemRepository.findAll();
-        all.forEach(this::refreshStatusIfNeeded);
+        return itemRepository.findByStatus("ENDED")
+                .stream()
+                .map(ItemService::toResponse)
+                .toList();
+    }
+
+    /**
+     * Keyset-paginated listing.
+     * status: ACTIVE / ENDED / null for all; sort: "id" (default) or "endTime"
+     * (soonest first, requires a status); limit is capped at MAX_PAGE_SIZE.
+     */
+    public ItemPage listItemsPage(String status, String sort, String cursor, Integer limit) {
+        int size = limit == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        Pageable page = PageRequest.of(0, size);
+        String normalizedStatus = status != null && !status.isBlank() ? status.toUpperCase() : null;
+        ItemCursor after = cursor != null && !cursor.isBlank() ? ItemCursor.decode(cursor) : null;
+
+        List<ItemEntity> rows;
+        boolean byEndTime = "endTime".equalsIgnoreCase(sort);
+        if (byEndTime) {
+            if (normalizedStatus == null) {
+                throw new IllegalArgumentException("status is required when sorting by endTime");
+            }
+            rows = after == null || after.endTime() == null
+                    ? itemRepository.findByStatusAndEndTimeNotNullOrderByEndTimeAscItemIdAsc(normalizedStatus, page)
+                    : itemRepository.findByStatusAfterEndTime(normalizedStatus, after.endTime(), after.itemId(), page);
+        } else {
+            long afterId = after == null ? 0L : after.itemId();
+            rows = normalizedStatus == null
+                    ? itemRepository.findByItemIdGreaterThanOrderByItemIdAsc(afterId, page)
+                    : itemRepository.findByStatusAndItemIdGreaterThanOrderByItemIdAsc(normalizedStatus, afterId, page);
+        }
 
-        return all.stream()
-                .filter(i -> "ENDED".equalsIgnoreCase(i.getStatus()))
-                .map(this::toResponse)
+        // cursor comes from the last row read, even if applyExpiry filters it out below
+        String nextCursor = null;
+        if (rows.size() == size) {
+            ItemEntity last = rows.get(rows.size() - 1);
+            nextCursor = new ItemCursor(byEndTime ? last.getEndTime() : null, last.getItemId()).encode();
+        }
+
+        rows.forEach(this::applyExpiry);
+        List<ItemResponse> items = rows.stream()
+                .filter(i -> normalizedStatus == null || normalizedStatus.equalsIgnoreCase(i.getStatus()))
+                .map(ItemService::toResponse)
                 .toList();
+
+        return new ItemPage(items, nextCursor);
+    }
+
+    // ---- Dashboards ----
+
+    /**
+     * A seller's listings in one status (default ACTIVE), ending soonest first,
+     * keyset-paginated on (endTime, itemId).
+     */
+    public ItemPage listSellerItems(Long sellerId, String status, String cursor, Integer limit) {
+        if (sellerId == null) {
+            throw new IllegalArgumentException("sellerId is required");
+        }
+        int size = limit == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        Pageable page = PageRequest.of(0, size);
+        String normalizedStatus = status != null && !status.isBlank() ? status.toUpperCase() : "ACTIVE";
+        ItemCursor after = cursor != null && !cursor.isBlank() ? ItemCursor.decode(cursor) : null;
+
+        List<ItemEntity> rows;
+        if (after == null) {
+            rows = itemRepository.findBySellerIdAndStatusOrderByEndTimeAscItemIdAsc(sellerId, normalizedStatus, page);
+        } else if (after.endTime() == null) {
+            // still among the items without an endTime; those with one follow
+            rows = new ArrayList<>(itemRepository.findSellerPageWithoutEndTime(
+                    sellerId, normalizedStatus, after.itemId(), page));
+            if (rows.size() < size) {
+                rows.addAll(itemRepository.findBySellerIdAndStatusAndEndTimeNotNullOrderByEndTimeAscItemIdAsc(
+                        sellerId, normalizedStatus, PageRequest.of(0, size - rows.size())));
+            }
+        } else {
+            rows = itemRepository.findSellerPageAfter(
+                    sellerId, normalizedStatus, after.endTime(), after.itemId(), page);
+        }
+
+        String nextCursor = null;
+        if (rows.size() == size) {
+            ItemEntity last = rows.get(rows.size() - 1);
+            nextCursor = new ItemCursor(last.getEndTime(), last.getItemId()).encode();
+        }
+        return new ItemPage(rows.stream().map(this::dashboardView).toList(), nextCursor);
+    }
+
+    /**
+     * Items a buyer is leading (ACTIVE) or has won (ENDED), newest first.
+     * status and paymentStatus are optional filters.
+     */
+    public ItemPage listBuyerItems(Long buyerId, String status, String paymentStatus,
+                                   String cursor, Integer limit) {
+        if (buyerId == null) {
+            throw new IllegalArgumentException("buyerId is required");
+        }
+        int size = limit == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        ItemCursor before = cursor != null && !cursor.isBlank() ? ItemCursor.decode(cursor) : null;
+
+        String statusFilter = status != null && !status.isBlank() ? status.toUpperCase() : null;
+        Long beforeId = before == null ? Long.MAX_VALUE : before.itemId();
+        List<ItemEntity> rows = paymentStatus != null && !paymentStatus.isBlank()
+                ? itemRepository.findBuyerPageByPaymentStatus(buyerId, statusFilter, paymentStatus.toUpperCase(),
+                        beforeId, PageRequest.of(0, size))
+                : itemRepository.findBuyerPage(buyerId, statusFilter, beforeId, PageRequest.of(0, size));
+
+        String nextCursor = null;
+        if (rows.size() == size) {
+            nextCursor = new ItemCursor(null, rows.get(rows.size() - 1).getItemId()).encode();
+        }
+        return new ItemPage(rows.stream().map(this::dashboardView).toList(), nextCursor);
+    }
+
+    private ItemResponse dashboardView(ItemEntity item) {
+        applyExpiry(item);
+        return toResponse(item);
     }
 
     public ItemResponse createItem(ItemRequest request) {
@@ -132,45 +265,83 @@ public class ItemService {
                 .build();
 
         ItemEntity saved = itemRepository.save(entity);
+        expiryScheduler.schedule(saved.getItemId(), saved.getEndTime());
+        searchIndex.add(saved);
+        eventPublisher.publishEvent(new ItemStatusChangedEvent(saved.getItemId(), "ACTIVE", "UNPAID"));
         return toResponse(saved);
     }
 
+    /**
+     * Uncached search, timed on auction.search as cache=miss; cache hits are
+     * recorded by {@link CatalogueResponseCache}.
+     */
     public List<ItemResponse> searchItems(String query) {
+        return auctionMetrics.time("auction.search", () -> search(query), "cache", "miss");
+    }
+
+    private List<ItemResponse> search(String query) {
         if (query == null || query.isBlank()) {
             return listAllItems();
         }
 
-        List<ItemEntity> results = itemRepository
-                .findByTitleContainingIgnoreCaseOrDescriptionContainingIgnoreCase(query, query);
+        List<ItemEntity> results;
+        if (searchIndex.isReady()) {
+            List<Long> ids = searchIndex.search(query, MAX_SEARCH_RESULTS);
+            Map<Long, ItemEntity> byId = new HashMap<>();
+            itemRepository.findAllById(ids).forEach(i -> byId.put(i.getItemId(), i));
+            // keep the index's ranking
+            results = ids.stream()
+                    .map(byId::get)
+                    .filter(Objects::nonNull)
+                    .toList();
+        } else {
+            // index still building at startup; it only holds ACTIVE items
+            results = itemRepository
+                    .findByTitleContainingIgnoreCaseOrDescriptionContainingIgnoreCase(query, query)
+                    .stream()
+                    .filter(item -> "ACTIVE".equalsIgnoreCase(item.getStatus()))
+                    .toList();
+        }
 
-        results.forEach(this::refreshStatusIfNeeded);
+        results.forEach(this::applyExpiry);
 
         return results.stream()
-                .map(this::toResponse)
+                .map(ItemService::toResponse)
                 .toList();
     }
 
     public ItemResponse getItem(Long itemId) {
-        ItemEntity entity = itemRepository.findById(itemId)
-                .orElseThrow(() -> new IllegalArgumentException("Item not found"));
-
-        refreshStatusIfNeeded(entity);
+        ItemResponse snapshot = itemSnapshotCache.get(itemId, id -> itemRepository.findById(id)
+                .map(ItemService::toResponse)
+                .orElse(null));
+        if (snapshot == null) {
+            throw new IllegalArgumentException("Item not found");
+        }
 
-        return toResponse(entity);
+        // a cached ACTIVE snapshot may be read between its endTime and the expiry tick
+        String status = effectiveStatus(snapshot.status(), snapshot.endTime());
+        return status.equals(snapshot.status()) ? snapshot : snapshot.withStatus(status);
     }
 
     public ItemResponse endAuction(Long itemId) {
         ItemEntity item = itemRepository.findById(itemId)
                 .orElseThrow(() -> new IllegalArgumentException("Item not found"));
 
-        refreshStatusIfNeeded(item);
+        applyExpiry(item);
 
         if ("ENDED".equalsIgnoreCase(item.getStatus())) {
             return toResponse(item);
         }
 
-        item.setStatus("ENDED");
-        ItemEntity saved = itemRepository.save(item);
+        expiryScheduler.cancel(itemId);
+
+        // status-only update, under the book lock so no bid slips in behind it; a full
+        // save of this entity could roll back a bid accepted since the load
+        if (bidSequencer.end(itemId)) {
+            eventPublisher.publishEvent(new ItemStatusChangedEvent(itemId, "ENDED", item.getPaymentStatus()));
+        }
+
+        ItemEntity saved = itemRepository.findById(itemId).orElse(item);
         return toResponse(saved);
     }
 
@@ -180,57 +351,27 @@ public class ItemService {
         if (!"DUTCH".equalsIgnoreCase(item.getAuctionType())) {
             throw new IllegalArgumentException("Not a Dutch auction");
         }
-
-        if (item.getCreatedAt() == null || item.getEndTime() == null) {
-            return item.getCurrentPrice();
-        }
-
-        BigDecimal start = item.getStartingPrice();
-        BigDecimal min = item.getMinimumPrice() != null ? item.getMinimumPrice() : BigDecimal.ZERO;
-
-        Duration total = Duration.between(item.getCreatedAt(), item.getEndTime());
-        Duration elapsed = Duration.between(item.getCreatedAt(), now);
-
-        if (elapsed.isNegative()) {
-            return start;
-        }
-        if (elapsed.compareTo(total) >= 0) {
-            return min;
-        }
-
-        double fraction = (double) elapsed.toMillis() / (double) total.toMillis();
-        BigDecimal drop = start.subtract(min)
-                .multiply(BigDecimal.valueOf(fraction));
-
-        BigDecimal current = start.subtract(drop);
-        if (current.compareTo(min) < 0) {
-            current = min;
-        }
-        return current;
+        return dutchPriceSchedule.priceAt(item, now);
     }
 
     public BigDecimal getCurrentDutchPrice(Long itemId) {
-        ItemEntity item = itemRepository.findById(itemId)
-                .orElseThrow(() -> new IllegalArgumentException("Item not found"));
-
-        if (!"DUTCH".equalsIgnoreCase(item.getAuctionType())) {
-            throw new IllegalArgumentException("Not a Dutch auction");
-        }
-
         LocalDateTime nowToronto = ZonedDateTime.now(AUCTION_ZONE).toLocalDateTime();
-        return calculateCurrentDutchPrice(item, nowToronto);
+        return dutchPriceSchedule.currentPrice(itemId, nowToronto);
     }
 
+    /**
+     * First come, first served. The winner is decided by an in-memory claim and
+     * confirmed by a single conditional UPDATE; losers are rejected without
+     * loading or saving the item.
+     */
     public ItemResponse acceptDutch(Long itemId, Long buyerId) {
-        ItemEntity item = itemRepository.findById(itemId)
-                .orElseThrow(() -> new IllegalArgumentException("Item not found"));
+        return auctionMetrics.time("auction.dutch.accept", () -> claimDutch(itemId, buyerId));
+    }
 
-        refreshStatusIfNeeded(item);
+    private ItemResponse claimDutch(Long itemId, Long buyerId) {
+        DutchPriceCurve curve = dutchPriceSchedule.curveFor(itemId);
 
-        if (!"DUTCH".equalsIgnoreCase(item.getAuctionType())) {
-            throw new IllegalArgumentException("Not a Dutch auction");
-        }
-        if (!"ACTIVE".equalsIgnoreCase(item.getStatus())) {
+        if (dutchPriceSchedule.isClosed(itemId)) {
             throw new IllegalArgumentException("Auction is not active");
         }
         if (buyerId == null) {
@@ -238,19 +379,35 @@ public class ItemService {
         }
 
         LocalDateTime nowToronto = ZonedDateTime.now(AUCTION_ZONE).toLocalDateTime();
-        if (item.getEndTime() != null && nowToronto.isAfter(item.getEndTime())) {
-            item.setStatus("ENDED");
-            itemRepository.save(item);
+        if (curve.endedAt(nowToronto, AUCTION_ZONE)) {
+            // AuctionExpiryScheduler writes the ENDED status
             throw new IllegalArgumentException("Auction has ended");
         }
 
-        BigDecimal price = calculateCurrentDutchPrice(item, nowToronto);
+        BigDecimal price = curve.priceAt(nowToronto, AUCTION_ZONE);
 
-        item.setCurrentPrice(price);
-        item.setStatus("ENDED");
-        item.setCurrentWinnerId(buyerId);
+        if (!dutchPriceSchedule.tryClaim(itemId)) {
+            auctionMetrics.increment("auction.dutch.accept.race", "stage", "claim");
+            throw new IllegalArgumentException("Auction is not active");
+        }
+        int updated;
+        try {
+            updated = itemRepository.acceptDutchIfActive(itemId, buyerId, price, nowToronto);
+        } catch (RuntimeException ex) {
+            dutchPriceSchedule.release(itemId);
+            throw ex;
+        }
+        if (updated == 0) {
+            // closed in the DB meanwhile (expiry, manual end, another node)
+            dutchPriceSchedule.close(itemId);
+            auctionMetrics.increment("auction.dutch.accept.race", "stage", "db");
+            throw new IllegalArgumentException("Auction is not active");
+        }
 
-        ItemEntity saved = itemRepository.save(item);
+        expiryScheduler.cancel(itemId);
+        ItemEntity saved = itemRepository.findById(itemId)
+                .orElseThrow(() -> new IllegalArgumentException("Item not found"));
+        eventPublisher.publishEvent(new ItemStatusChangedEvent(itemId, "ENDED", saved.getPaymentStatus()));
         return toResponse(saved);
     }
 
@@ -262,16 +419,21 @@ public class ItemService {
      * - PaymentStatus must not already be PAID
      */
     public ReceiptResponse payForItem(Long itemId, PaymentRequest request) {
-        ItemEntity item = itemRepository.findById(itemId)
-                .orElseThrow(() -> new IllegalArgumentException("Item not found"));
+        return auctionMetrics.time("auction.payment", () -> pay(itemId, request));
+    }
 
-        refreshStatusIfNeeded(item);
+    private ReceiptResponse pay(Long itemId, PaymentRequest request) {
+        // with the event log on, the row can be behind the log; the winner must reflect every bid
+        bidEventLog.awaitProjected(itemId);
+        ReceiptRow row = itemRepository.findReceiptRow(itemId)
+                .orElseThrow(() -> new IllegalArgumentException("Item not found"));
 
-        if (!"ENDED".equalsIgnoreCase(item.getStatus())) {
+        String status = effectiveStatus(row.status(), row.endTime());
+        if (!"ENDED".equalsIgnoreCase(status)) {
             throw new IllegalArgumentException("Auction has not ended yet");
         }
 
-        if (item.getCurrentWinnerId() == null) {
+        if (row.currentWinnerId() == null) {
             throw new IllegalArgumentException("No winner for this auction");
         }
 
@@ -279,79 +441,62 @@ public class ItemService {
             throw new IllegalArgumentException("payerId is required");
         }
 
-        if (!item.getCurrentWinnerId().equals(request.payerId())) {
+        if (!row.currentWinnerId().equals(request.payerId())) {
             throw new IllegalArgumentException("Only the winning bidder can pay for this item");
         }
 
-        if ("PAID".equalsIgnoreCase(item.getPaymentStatus())) {
-            return getReceipt(itemId);
+        if ("PAID".equalsIgnoreCase(row.paymentStatus())) {
+            return row.toReceipt(status);
         }
 
-        item.setPaymentStatus("PAID");
-        item.setPaymentTime(ZonedDateTime.now(AUCTION_ZONE).toLocalDateTime());
-        itemRepository.save(item);
+        LocalDateTime paidAt = ZonedDateTime.now(AUCTION_ZONE).toLocalDateTime();
+        if (itemRepository.markPaid(itemId, request.payerId(), paidAt) == 0) {
+            ReceiptRow current = itemRepository.findReceiptRow(itemId)
+                    .orElseThrow(() -> new IllegalArgumentException("Item not found"));
+            if ("PAID".equalsIgnoreCase(current.paymentStatus())
+                    && request.payerId().equals(current.currentWinnerId())) {
+                // a concurrent request paid first; report what it stored
+                return current.toReceipt(current.status());
+            }
+            if (!"ENDED".equalsIgnoreCase(current.status())) {
+                // past endTime, but the expiry scheduler hasn't closed it yet
+                throw new IllegalArgumentException("Auction has not ended yet");
+            }
+            throw new IllegalArgumentException("Only the winning bidder can pay for this item");
+        }
+        eventPublisher.publishEvent(new ItemStatusChangedEvent(itemId, status, "PAID"));
 
-        return getReceipt(itemId);
+        return row.toReceipt(status, "PAID", paidAt);
     }
 
     public ReceiptResponse getReceipt(Long itemId) {
-        ItemEntity item = itemRepository.findById(itemId)
+        ReceiptRow row = itemRepository.findReceiptRow(itemId)
                 .orElseThrow(() -> new IllegalArgumentException("Item not found"));
 
-        refreshStatusIfNeeded(item);
-
-        if (!"ENDED".equalsIgnoreCase(item.getStatus())) {
+        String status = effectiveStatus(row.status(), row.endTime());
+        if (!"ENDED".equalsIgnoreCase(status)) {
             throw new IllegalArgumentException("Auction has not ended yet");
         }
 
-        UserEntity sellerEntity = userRepository.findById(item.getSellerId())
-                .orElse(null);
-
-        ReceiptUserView seller = sellerEntity != null
-                ? new ReceiptUserView(
-                        sellerEntity.getUserId(),
-                        sellerEntity.getUsername(),
-                        sellerEntity.getFirstName(),
-                        sellerEntity.getLastName(),
-                        sellerEntity.getEmail()
-        )
-                : null;
-
-        ReceiptUserView buyer = null;
-        if (item.getCurrentWinnerId() != null) {
-            UserEntity buyerEntity = userRepository.findById(item.getCurrentWinnerId())
-                    .orElse(null);
-            if (buyerEntity != null) {
-                buyer = new ReceiptUserView(
-                        buyerEntity.getUserId(),
-                        buyerEntity.getUsername(),
-                        buyerEntity.getFirstName(),
-                        buyerEntity.getLastName(),
-                        buyerEntity.getEmail()
-                );
-            }
-        }
+        return row.toReceipt(status);
+    }
 
-        BigDecimal finalPrice = item.getCurrentPrice();
-
-        return new ReceiptResponse(
-                item.getItemId(),
-                item.getTitle(),
-                item.getAuctionType(),
-                item.getStatus(),
-                finalPrice,
-                item.getCreatedAt(),
-                item.getEndTime(),
-                seller,
-                buyer,
-                item.getPaymentStatus(),
-                item.getPaymentTime()
-        );
+    /**
+     * All receipts for items won by this buyer, newest first, in one query.
+     */
+    public List<ReceiptResponse> getReceiptsForBuyer(Long buyerId) {
+        if (buyerId == null) {
+            throw new IllegalArgumentException("buyerId is required");
+        }
+        return itemRepository.findReceiptRowsByBuyer(buyerId)
+                .stream()
+                .map(row -> row.toReceipt(row.status()))
+                .toList();
     }
 
     // ---- DTO mapping ----
 
-    private ItemResponse toResponse(ItemEntity e) {
+    static ItemResponse toResponse(ItemEntity e) {
         return new ItemResponse(
                 e.getItemId(),
                 e.getSellerId(),
@@ -0,0 +1,54 @@
+package com.aurora.auctionmid.item;
+
+import com.aurora.auctionmid.bid.BidAcceptedEvent;
+import com.aurora.auctionmid.cache.BoundedCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of immutable ItemResponse snapshots for GET /api/items/{id}.
+ *
+ * Accepted bids update the cached snapshot in place; status changes (manual end,
+ * expiry, Dutch accept, payment) drop it so the next read reloads. Hit, miss and
+ * eviction counts are exported as cache.* meters tagged cache=items.
+ */
+@Component
+public class ItemSnapshotCache {
+
+    private final BoundedCache<Long, ItemResponse> snapshots;
+
+    public ItemSnapshotCache(
+            MeterRegistry meterRegistry,
+            @Value("${auction.item-cache.max-size:10000}") int maxSize,
+            @Value("${auction.item-cache.ttl-ms:60000}") long ttlMillis
+    ) {
+        this.snapshots = new BoundedCache<Long, ItemResponse>(maxSize, Duration.ofMillis(ttlMillis))
+                .bindTo(meterRegistry, "items");
+    }
+
+    public ItemResponse get(Long itemId, Function<Long, ItemResponse> loader) {
+        return snapshots.get(itemId, loader);
+    }
+
+    public void invalidate(Long itemId) {
+        snapshots.invalidate(itemId);
+    }
+
+    @EventListener
+    public void onBidAccepted(BidAcceptedEvent event) {
+        // events of one item can arrive out of order; only ever move the price up
+        snapshots.computeIfPresent(event.itemId(), cached -> event.amount().compareTo(cached.currentPrice()) > 0
+                ? cached.withBid(event.amount(), event.bidderId(), event.endTime())
+                : cached);
+    }
+
+    @EventListener
+    public void onStatusChanged(ItemStatusChangedEvent event) {
+        snapshots.invalidate(event.itemId());
+    }
+}
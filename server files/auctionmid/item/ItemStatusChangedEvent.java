@@ -0,0 +1,11 @@
+package com.aurora.auctionmid.item;
+
+/**
+ * Published when an auction is created (ACTIVE) or its status or payment
+ * status changes (manual end, expiry, Dutch accept, payment).
+ */
+public record ItemStatusChangedEvent(
+        Long itemId,
+        String status,           // ACTIVE / ENDED
+        String paymentStatus     // UNPAID / PAID, null if not known to the publisher
+) {}
@@ -0,0 +1,65 @@
+package com.aurora.auctionmid.item;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * Reactive twin of {@link ItemController} under /api/rx/items.
+ *
+ * Same ItemService calls, so validation and error messages are identical. The
+ * calls are blocking (JPA): they run on the bounded rx scheduler, which hands
+ * the servlet thread back but holds an rx-blocking thread per call instead.
+ */
+@RestController
+@RequestMapping("/api/rx/items")
+@RequiredArgsConstructor
+@CrossOrigin
+public class ReactiveItemController {
+
+    private final ItemService itemService;
+    private final Scheduler blockingScheduler;
+
+    @GetMapping("/{itemId}")
+    public Mono<ResponseEntity<?>> getItem(@PathVariable Long itemId) {
+        return call(() -> itemService.getItem(itemId), HttpStatus.NOT_FOUND);
+    }
+
+    /**
+     * GET /api/rx/items/page?status=ACTIVE&sort=endTime&cursor=...&limit=50
+     */
+    @GetMapping("/page")
+    public Mono<ResponseEntity<?>> getItemsPage(
+            @RequestParam(name = "status", required = false) String status,
+            @RequestParam(name = "sort", required = false) String sort,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "limit", required = false) Integer limit
+    ) {
+        return call(() -> itemService.listItemsPage(status, sort, cursor, limit), HttpStatus.BAD_REQUEST);
+    }
+
+    @GetMapping("/search")
+    public Mono<ResponseEntity<?>> searchItems(@RequestParam(name = "q", required = false) String query) {
+        return call(() -> itemService.searchItems(query), HttpStatus.BAD_REQUEST);
+    }
+
+    @PostMapping("/{itemId}/pay")
+    public Mono<ResponseEntity<?>> payForItem(@PathVariable Long itemId,
+                                              @RequestBody PaymentRequest request) {
+        return call(() -> itemService.payForItem(itemId, request), HttpStatus.BAD_REQUEST);
+    }
+
+    private Mono<ResponseEntity<?>> call(Callable<?> operation, HttpStatus rejectedStatus) {
+        return Mono.fromCallable(operation)
+                .subscribeOn(blockingScheduler)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, ex -> Mono.just(
+                        ResponseEntity.status(rejectedStatus).body(Map.of("error", ex.getMessage()))));
+    }
+}
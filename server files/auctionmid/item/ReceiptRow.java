@@ -0,0 +1,62 @@
+package com.aurora.auctionmid.item;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Flat result of the receipt query: the item columns a receipt needs plus the
+ * ReceiptUserView columns of seller and buyer, fetched in one statement.
+ * Seller/buyer columns are null when that user row doesn't exist.
+ */
+public record ReceiptRow(
+        Long itemId,
+        String title,
+        String auctionType,
+        String status,
+        BigDecimal currentPrice,
+        LocalDateTime createdAt,
+        LocalDateTime endTime,
+        Long currentWinnerId,
+        String paymentStatus,
+        LocalDateTime paymentTime,
+
+        Long sellerUserId,
+        String sellerUsername,
+        String sellerFirstName,
+        String sellerLastName,
+        String sellerEmail,
+
+        Long buyerUserId,
+        String buyerUsername,
+        String buyerFirstName,
+        String buyerLastName,
+        String buyerEmail
+) {
+
+    ReceiptResponse toReceipt(String effectiveStatus) {
+        return toReceipt(effectiveStatus, paymentStatus, paymentTime);
+    }
+
+    ReceiptResponse toReceipt(String effectiveStatus, String paymentStatus, LocalDateTime paymentTime) {
+        ReceiptUserView seller = sellerUserId != null
+                ? new ReceiptUserView(sellerUserId, sellerUsername, sellerFirstName, sellerLastName, sellerEmail)
+                : null;
+        ReceiptUserView buyer = buyerUserId != null
+                ? new ReceiptUserView(buyerUserId, buyerUsername, buyerFirstName, buyerLastName, buyerEmail)
+                : null;
+
+        return new ReceiptResponse(
+                itemId,
+                title,
+                auctionType,
+                effectiveStatus,
+                currentPrice,
+                createdAt,
+                endTime,
+                seller,
+                buyer,
+                paymentStatus,
+                paymentTime
+        );
+    }
+}
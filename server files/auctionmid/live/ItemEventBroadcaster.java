@@ -0,0 +1,212 @@
+package com.aurora.auctionmid.live;
+
+import com.aurora.auctionmid.bid.BidAcceptedEvent;
+import com.aurora.auctionmid.item.ItemService;
+import com.aurora.auctionmid.item.ItemStatusChangedEvent;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fans item events out to SSE subscribers.
+ *
+ * Publishers only enqueue: each subscriber has its own small bounded queue that
+ * a shared pool drains to the socket, so one slow client never holds up the bid
+ * path or other watchers. When a queue is full, newer events replace older ones
+ * of the same kind for the same item (a watcher only needs the latest price).
+ * Dutch prices are computed once per tick per watched item, not per watcher.
+ * A stream completes after the status event of the last of its items to leave
+ * ACTIVE; items already closed when subscribed get that status event at once.
+ */
+@Component
+public class ItemEventBroadcaster {
+
+    static final String BID = "bid";
+    static final String STATUS = "status";
+    static final String DUTCH_PRICE = "dutch-price";
+    private static final Set<String> ALL_TYPES = Set.of(BID, STATUS, DUTCH_PRICE);
+
+    public record DutchPriceTick(Long itemId, BigDecimal currentPrice) {}
+
+    private final ItemService itemService;
+    private final long timeoutMillis;
+    private final int queueCapacity;
+
+    private final Map<Long, Set<LiveSubscriber>> subscribersByItem = new ConcurrentHashMap<>();
+    // watched Dutch items -> last price pushed
+    private final Map<Long, BigDecimal> dutchWatch = new ConcurrentHashMap<>();
+
+    private final ExecutorService senders;
+    private final ScheduledExecutorService ticker;
+
+    public ItemEventBroadcaster(
+            ItemService itemService,
+            @Value("${auction.live.timeout-ms:1800000}") long timeoutMillis,
+            @Value("${auction.live.subscriber-queue:32}") int queueCapacity,
+            @Value("${auction.live.sender-threads:4}") int senderThreads,
+            @Value("${auction.live.dutch-tick-ms:1000}") long dutchTickMillis
+    ) {
+        this.itemService = itemService;
+        this.timeoutMillis = timeoutMillis;
+        this.queueCapacity = queueCapacity;
+        this.senders = Executors.newFixedThreadPool(senderThreads, daemon("live-sender"));
+        this.ticker = Executors.newSingleThreadScheduledExecutor(daemon("live-dutch-ticker"));
+        ticker.scheduleWithFixedDelay(this::tickDutchPrices, dutchTickMillis, dutchTickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        ticker.shutdownNow();
+        senders.shutdownNow();
+    }
+
+    public SseEmitter subscribe(Collection<Long> itemIds) {
+        return register(Set.copyOf(itemIds), ALL_TYPES).emitter();
+    }
+
+    /**
+     * One Dutch item's price: the current price at once, then a dutch-price event
+     * per step down, and a final status event when the auction closes.
+     *
+     * @throws IllegalArgumentException if the item doesn't exist or isn't a Dutch auction
+     */
+    public SseEmitter subscribeDutchPrice(Long itemId) {
+        BigDecimal price = itemService.getCurrentDutchPrice(itemId);
+        Registered registered = register(Set.of(itemId), Set.of(DUTCH_PRICE, STATUS));
+        registered.subscriber().offer(itemId, DUTCH_PRICE, new DutchPriceTick(itemId, price));
+        return registered.emitter();
+    }
+
+    private record Registered(SseEmitter emitter, LiveSubscriber subscriber) {}
+
+    private Registered register(Set<Long> itemIds, Set<String> types) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        LiveSubscriber subscriber = new LiveSubscriber(emitter, itemIds, types, queueCapacity, senders);
+
+        for (Long itemId : itemIds) {
+            subscribersByItem.computeIfAbsent(itemId, id -> new CopyOnWriteArraySet<>()).add(subscriber);
+            watchIfDutch(itemId);
+        }
+
+        Runnable remove = () -> unsubscribe(subscriber);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(ex -> remove.run());
+
+        // read after registering, so a close in between is seen here or by onStatusChanged
+        for (Long itemId : itemIds) {
+            String status = statusOf(itemId);
+            if (!"ACTIVE".equalsIgnoreCase(status)) {
+                if (status != null) {
+                    subscriber.offer(itemId, STATUS, new ItemStatusChangedEvent(itemId, status, null));
+                }
+                subscriber.ended(itemId);
+            }
+        }
+        return new Registered(emitter, subscriber);
+    }
+
+    // null if there is no such item
+    private String statusOf(Long itemId) {
+        try {
+            return itemService.getItem(itemId).status();
+        } catch (IllegalArgumentException notFound) {
+            return null;
+        }
+    }
+
+    @EventListener
+    public void onBidAccepted(BidAcceptedEvent event) {
+        publish(event.itemId(), BID, event);
+    }
+
+    @EventListener
+    public void onStatusChanged(ItemStatusChangedEvent event) {
+        publish(event.itemId(), STATUS, event);
+        if (!"ACTIVE".equalsIgnoreCase(event.status())) {
+            dutchWatch.remove(event.itemId());
+            Set<LiveSubscriber> subscribers = subscribersByItem.get(event.itemId());
+            if (subscribers != null) {
+                subscribers.forEach(s -> s.ended(event.itemId()));
+            }
+        }
+    }
+
+    private void publish(Long itemId, String type, Object data) {
+        Set<LiveSubscriber> subscribers = subscribersByItem.get(itemId);
+        if (subscribers == null) {
+            return;
+        }
+        for (LiveSubscriber s : subscribers) {
+            if (s.isClosed()) {
+                unsubscribe(s);
+            } else {
+                s.offer(itemId, type, data);
+            }
+        }
+    }
+
+    private void unsubscribe(LiveSubscriber subscriber) {
+        subscriber.close();
+        for (Long itemId : subscriber.itemIds()) {
+            subscribersByItem.computeIfPresent(itemId, (id, set) -> {
+                set.remove(subscriber);
+                if (set.isEmpty()) {
+                    dutchWatch.remove(id);
+                    return null;
+                }
+                return set;
+            });
+        }
+    }
+
+    private void watchIfDutch(Long itemId) {
+        if (dutchWatch.containsKey(itemId)) {
+            return;
+        }
+        try {
+            dutchWatch.put(itemId, itemService.getCurrentDutchPrice(itemId));
+        } catch (IllegalArgumentException notDutch) {
+            // forward auction or unknown item: nothing to tick
+        }
+    }
+
+    private void tickDutchPrices() {
+        for (Map.Entry<Long, BigDecimal> watched : dutchWatch.entrySet()) {
+            Long itemId = watched.getKey();
+            try {
+                BigDecimal price = itemService.getCurrentDutchPrice(itemId);
+                if (price.compareTo(watched.getValue()) != 0) {
+                    watched.setValue(price);
+                    publish(itemId, DUTCH_PRICE, new DutchPriceTick(itemId, price));
+                }
+            } catch (RuntimeException ex) {
+                dutchWatch.remove(itemId);
+            }
+        }
+    }
+
+    private static ThreadFactory daemon(String prefix) {
+        AtomicInteger n = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, prefix + "-" + n.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+}
@@ -0,0 +1,53 @@
+package com.aurora.auctionmid.live;
+
+import com.aurora.auctionmid.item.ItemService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/items")
+@RequiredArgsConstructor
+@CrossOrigin
+public class LiveItemController {
+
+    private static final int MAX_STREAM_ITEMS = 100;
+
+    private final ItemEventBroadcaster broadcaster;
+    private final ItemService itemService;
+
+    /**
+     * GET /api/items/{itemId}/stream
+     * Server-sent events for one item: bid, status, dutch-price.
+     */
+    @GetMapping(value = "/{itemId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<?> streamItem(@PathVariable Long itemId) {
+        try {
+            itemService.getItem(itemId);
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(Map.of("error", ex.getMessage()));
+        }
+        return ResponseEntity.ok(broadcaster.subscribe(List.of(itemId)));
+    }
+
+    /**
+     * GET /api/items/stream?ids=1,2,3
+     * One multiplexed stream for several items; each event's id is its itemId.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<?> streamItems(@RequestParam("ids") List<Long> ids) {
+        if (ids.isEmpty() || ids.size() > MAX_STREAM_ITEMS) {
+            return ResponseEntity.badRequest()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(Map.of("error", "ids must list 1 to " + MAX_STREAM_ITEMS + " items"));
+        }
+        return ResponseEntity.ok(broadcaster.subscribe(ids));
+    }
+}
@@ -0,0 +1,158 @@
+package com.aurora.auctionmid.live;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * One SSE connection and its pending events.
+ *
+ * offer() never blocks: events go into a bounded queue and at most one drain task
+ * per subscriber runs on the shared sender pool at a time. Once every watched
+ * item has ended, the stream completes after its queued events are sent.
+ *
+ * A full queue sheds bid and price ticks, oldest first, and never a status
+ * event: those are conflated per item, so at most one per watched item can sit
+ * past capacity, and a slow client still sees each item's final status.
+ */
+final class LiveSubscriber {
+
+    private record Pending(Long itemId, String type, Object data) {}
+
+    private final SseEmitter emitter;
+    private final Set<Long> itemIds;
+    private final Set<String> types;
+    private final int capacity;
+    private final Executor senders;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ArrayDeque<Pending> queue = new ArrayDeque<>();
+    // watched items not yet ended
+    private final Set<Long> open;
+    private boolean draining;
+    private volatile boolean closed;
+
+    LiveSubscriber(SseEmitter emitter, Set<Long> itemIds, Set<String> types, int capacity, Executor senders) {
+        this.emitter = emitter;
+        this.itemIds = itemIds;
+        this.types = types;
+        this.capacity = capacity;
+        this.senders = senders;
+        this.open = new HashSet<>(itemIds);
+    }
+
+    Set<Long> itemIds() {
+        return itemIds;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    void close() {
+        closed = true;
+    }
+
+    void offer(Long itemId, String type, Object data) {
+        if (!types.contains(type)) {
+            return;
+        }
+        boolean startDrain;
+        lock.lock();
+        try {
+            if (queue.size() >= capacity && !conflate(itemId, type) && !dropOldestTick()
+                    && !ItemEventBroadcaster.STATUS.equals(type)) {
+                return;   // only status events queued: drop this tick rather than one of them
+            }
+            queue.addLast(new Pending(itemId, type, data));
+            startDrain = !draining;
+            draining = true;
+        } finally {
+            lock.unlock();
+        }
+        if (startDrain) {
+            senders.execute(this::drain);
+        }
+    }
+
+    /**
+     * The item left ACTIVE; offer its status event first. The last one to end completes the stream.
+     */
+    void ended(Long itemId) {
+        boolean startDrain;
+        lock.lock();
+        try {
+            if (!open.remove(itemId) || !open.isEmpty()) {
+                return;
+            }
+            startDrain = !draining;
+            draining = true;
+        } finally {
+            lock.unlock();
+        }
+        if (startDrain) {
+            senders.execute(this::drain);
+        }
+    }
+
+    // remove a queued event this one supersedes; true if room was made
+    private boolean conflate(Long itemId, String type) {
+        for (Iterator<Pending> it = queue.iterator(); it.hasNext(); ) {
+            Pending p = it.next();
+            if (Objects.equals(p.itemId(), itemId) && p.type().equals(type)) {
+                it.remove();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // remove the oldest queued event that isn't a status change; true if room was made
+    private boolean dropOldestTick() {
+        for (Iterator<Pending> it = queue.iterator(); it.hasNext(); ) {
+            if (!ItemEventBroadcaster.STATUS.equals(it.next().type())) {
+                it.remove();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void drain() {
+        while (true) {
+            Pending next;
+            lock.lock();
+            try {
+                next = queue.pollFirst();
+                if (next == null && open.isEmpty() && !closed) {
+                    closed = true;
+                    emitter.complete();
+                }
+                if (next == null || closed) {
+                    queue.clear();
+                    draining = false;
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+            try {
+                emitter.send(SseEmitter.event()
+                        .name(next.type())
+                        .id(String.valueOf(next.itemId()))
+                        .data(next.data()));
+            } catch (IOException | IllegalStateException ex) {
+                // client went away; the broadcaster drops us on its next publish
+                closed = true;
+                emitter.completeWithError(ex);
+            }
+        }
+    }
+}
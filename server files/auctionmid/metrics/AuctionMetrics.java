@@ -0,0 +1,82 @@
+package com.aurora.auctionmid.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Timers for domain operations, tagged with how each call ended.
+ *
+ * outcome=success | rejected | error. Rejections (IllegalArgumentException) carry
+ * a short, fixed reason code derived from the message, so tag cardinality stays
+ * bounded; errors carry the exception class. Timers publish a percentile
+ * histogram, so p99 can be aggregated across instances in Prometheus. Callers
+ * may add fixed tags of their own; every timer of one name must carry the same keys.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuctionMetrics {
+
+    private static final Map<String, String> REASONS = Map.ofEntries(
+            Map.entry("Auction has ended", "ended"),
+            Map.entry("Auction has not ended yet", "not_ended"),
+            Map.entry("Auction is not active", "not_active"),
+            Map.entry("Bid must be >= starting price", "below_start"),
+            Map.entry("Bid must be higher than current price", "outbid"),
+            Map.entry("Bidding is only allowed on FORWARD auctions", "wrong_type"),
+            Map.entry("Not a Dutch auction", "wrong_type"),
+            Map.entry("Item not found", "not_found"),
+            Map.entry("No winner for this auction", "no_winner"),
+            Map.entry("Only the winning bidder can pay for this item", "not_winner"),
+            Map.entry("Proxy maximum can only be raised", "proxy_lowered")
+    );
+
+    private final MeterRegistry meterRegistry;
+
+    public <T> T time(String name, Supplier<T> operation, String... tags) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        String reason = "none";
+        try {
+            return operation.get();
+        } catch (IllegalArgumentException ex) {
+            outcome = "rejected";
+            reason = reasonOf(ex.getMessage());
+            throw ex;
+        } catch (RuntimeException ex) {
+            outcome = "error";
+            reason = ex.getClass().getSimpleName();
+            throw ex;
+        } finally {
+            sample.stop(timer(name, outcome, reason, tags));
+        }
+    }
+
+    public Timer timer(String name, String outcome, String reason, String... tags) {
+        return Timer.builder(name)
+                .tags("outcome", outcome, "reason", reason)
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    public void increment(String name, String... tags) {
+        Counter.builder(name).tags(tags).register(meterRegistry).increment();
+    }
+
+    static String reasonOf(String message) {
+        if (message == null) {
+            return "other";
+        }
+        String reason = REASONS.get(message);
+        if (reason != null) {
+            return reason;
+        }
+        return message.endsWith(" is required") || message.startsWith("Invalid ") ? "invalid" : "other";
+    }
+}
@@ -0,0 +1,10 @@
+package com.aurora.auctionmid.security;
+
+/**
+ * Identity carried by a verified token.
+ */
+public record JwtPrincipal(
+        String username,
+        Long userId,             // "uid" claim, null for tokens issued without it
+        long expiresAtMillis
+) {}
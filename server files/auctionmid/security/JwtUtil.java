@@ -1,49 +1,110 @@
 package com.aurora.auctionmid.security;
 
+import com.aurora.auctionmid.cache.BoundedCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Base64;
 import java.util.Date;
 
 @Component
 public class JwtUtil {
 
+    private static final String USER_ID_CLAIM = "uid";
+
     private final Key key;
     private final long ttlMinutes;
+    private final JwtParser parser;              // immutable and thread-safe, built once
+    private final BoundedCache<String, JwtPrincipal> verified;
 
     public JwtUtil(
             @Value("${app.jwt.secret}") String secret,
-            @Value("${app.jwt.ttlMinutes:60}") long ttlMinutes
+            @Value("${app.jwt.ttlMinutes:60}") long ttlMinutes,
+            @Value("${app.jwt.cache-size:10000}") int cacheSize,
+            MeterRegistry meterRegistry
     ) {
         // For dev: derive key from secret string
         this.key = Keys.hmacShaKeyFor(secret.getBytes());
         this.ttlMinutes = ttlMinutes;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        this.verified = new BoundedCache<String, JwtPrincipal>(cacheSize, Duration.ofMinutes(ttlMinutes))
+                .bindTo(meterRegistry, "jwt");
     }
 
     public String generate(String username) {
+        return generate(username, null);
+    }
+
+    public String generate(String username, Long userId) {
         Instant now = Instant.now();
         Instant expiry = now.plus(ttlMinutes, ChronoUnit.MINUTES);
 
-        return Jwts.builder()
+        var builder = Jwts.builder()
                 .setSubject(username)
                 .setIssuedAt(Date.from(now))
-                .setExpiration(Date.from(expiry))
+                .setExpiration(Date.from(expiry));
+        if (userId != null) {
+            builder.claim(USER_ID_CLAIM, userId);
+        }
+        return builder
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
 
     public String getUsername(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return verify(token).username();
+    }
+
+    /**
+     * Verify a token and return who it belongs to. A token that verified before
+     * is answered from the cache until its exp; anything invalid throws
+     * io.jsonwebtoken.JwtException (or IllegalArgumentException for blank input).
+     */
+    public JwtPrincipal verify(String token) {
+        String cacheKey = sha256(token);
+        JwtPrincipal cached = verified.get(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        Number uid = claims.get(USER_ID_CLAIM, Number.class);
+        long expiresAt = claims.getExpiration() != null
+                ? claims.getExpiration().getTime()
+                : Long.MAX_VALUE;
+
+        JwtPrincipal principal = new JwtPrincipal(
+                claims.getSubject(),
+                uid != null ? uid.longValue() : null,
+                expiresAt
+        );
+        verified.put(cacheKey, principal, expiresAt);
+        return principal;
+    }
+
+    // cache by digest so raw bearer tokens are not kept on the heap
+    private static String sha256(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
     }
 }
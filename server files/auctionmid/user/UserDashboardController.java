@@ -0,0 +1,56 @@
+package com.aurora.auctionmid.user;
+
+import com.aurora.auctionmid.item.ItemService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/users")
+@RequiredArgsConstructor
+@CrossOrigin
+public class UserDashboardController {
+
+    private final ItemService itemService;
+
+    /**
+     * GET /api/users/{userId}/selling?status=ACTIVE&cursor=...&limit=20
+     * The user's listings in one status, ending soonest first.
+     */
+    @GetMapping("/{userId}/selling")
+    public ResponseEntity<?> getSelling(
+            @PathVariable Long userId,
+            @RequestParam(name = "status", required = false) String status,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "limit", required = false) Integer limit
+    ) {
+        try {
+            return ResponseEntity.ok(itemService.listSellerItems(userId, status, cursor, limit));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", ex.getMessage()));
+        }
+    }
+
+    /**
+     * GET /api/users/{userId}/buying?status=ENDED&paymentStatus=UNPAID&cursor=...&limit=20
+     * Items the user is winning or has won, newest first.
+     */
+    @GetMapping("/{userId}/buying")
+    public ResponseEntity<?> getBuying(
+            @PathVariable Long userId,
+            @RequestParam(name = "status", required = false) String status,
+            @RequestParam(name = "paymentStatus", required = false) String paymentStatus,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "limit", required = false) Integer limit
+    ) {
+        try {
+            return ResponseEntity.ok(itemService.listBuyerItems(userId, status, paymentStatus, cursor, limit));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", ex.getMessage()));
+        }
+    }
+}
@@ -1,15 +1,33 @@
 package com.aurora.auctionmid.web;
 
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.HealthComponent;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+/**
+ * Plain-text readiness for load balancers: "OK" when the actuator readiness
+ * group (DB and auth upstream) is UP, 503 with the status otherwise.
+ */
 @RestController
 @RequestMapping("/api")
+@RequiredArgsConstructor
 public class HealthController {
+
+  private final HealthEndpoint healthEndpoint;
+
   @GetMapping("/health")
   public ResponseEntity<String> health() {
-    return ResponseEntity.ok("OK");
+    HealthComponent readiness = healthEndpoint.healthForPath("readiness");
+    Status status = readiness != null ? readiness.getStatus() : healthEndpoint.health().getStatus();
+    if (Status.UP.equals(status)) {
+      return ResponseEntity.ok("OK");
+    }
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(status.getCode());
   }
 }
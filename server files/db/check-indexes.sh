@@ -0,0 +1,72 @@
+#!/usr/bin/env bash
+#
+# Asserts, via EXPLAIN, that each hot repository query uses its index instead
+# of a full table scan. Exits non-zero on the first query that doesn't.
+#
+# Run it after the migrations against a database with some data in it; on
+# empty or tiny tables the optimizer may legitimately prefer a scan:
+#
+#   MYSQL_PWD=... DB_HOST=127.0.0.1 DB_NAME=auction_DB DB_USER=auction_user ./check-indexes.sh
+#
+# Env: DB_HOST (default 127.0.0.1), DB_PORT (3306), DB_NAME (auction_DB),
+#      DB_USER (auction_user); the password comes from MYSQL_PWD.
+#
+# Without a MySQL at hand, bench.IndexPlanCheck in auctionmid-jmh runs the same
+# list against the H2 fixture (see its README).
+
+set -euo pipefail
+
+DB_HOST="${DB_HOST:-127.0.0.1}"
+DB_PORT="${DB_PORT:-3306}"
+DB_NAME="${DB_NAME:-auction_DB}"
+DB_USER="${DB_USER:-auction_user}"
+
+command -v mysql >/dev/null || { echo "needs the mysql client" >&2; exit 1; }
+
+sql() {
+  mysql --batch --skip-column-names -h "$DB_HOST" -P "$DB_PORT" -u "$DB_USER" "$DB_NAME" -e "$1"
+}
+
+failures=0
+
+# expect <name> <key regex> <query>
+expect() {
+  local name="$1" key="$2" query="$3"
+  # tab-separated: id select_type table partitions type possible_keys key ...
+  local row type used
+  row="$(sql "EXPLAIN $query" | head -n 1)"
+  type="$(cut -f5 <<< "$row")"
+  used="$(cut -f7 <<< "$row")"
+  if [[ "$type" == "ALL" || ! "$used" =~ ^($key)$ ]]; then
+    printf 'FAIL %-28s type=%s key=%s (want %s)\n' "$name" "$type" "$used" "$key"
+    failures=$((failures + 1))
+  else
+    printf 'ok   %-28s type=%s key=%s\n' "$name" "$type" "$used"
+  fi
+}
+
+sql "ANALYZE TABLE items, bids" > /dev/null
+
+expect findByStatus 'idx_items_status_end|idx_items_status_type' \
+  "SELECT * FROM items WHERE status = 'ACTIVE'"
+expect findActiveDeadlines idx_items_status_end \
+  "SELECT item_id, end_time FROM items WHERE status = 'ACTIVE' AND end_time IS NOT NULL"
+expect findByStatusEndTimePage idx_items_status_end \
+  "SELECT * FROM items WHERE status = 'ACTIVE' AND end_time IS NOT NULL ORDER BY end_time, item_id LIMIT 20"
+expect countByStatusAndAuctionType idx_items_status_type \
+  "SELECT COUNT(*) FROM items WHERE status = 'ACTIVE' AND auction_type = 'DUTCH'"
+expect findBySellerIdAndStatus idx_items_seller_status_end \
+  "SELECT * FROM items WHERE seller_id = 1 AND status = 'ACTIVE'"
+expect findBuyerPage idx_items_winner_payment \
+  "SELECT * FROM items WHERE current_winner_id = 1 ORDER BY item_id DESC LIMIT 20"
+expect findBuyerPageByPaymentStatus idx_items_winner_payment \
+  "SELECT * FROM items WHERE current_winner_id = 1 AND payment_status = 'UNPAID' ORDER BY item_id DESC LIMIT 20"
+expect findByItemIdOrderByAmountDesc idx_bids_item_amount \
+  "SELECT * FROM bids WHERE item_id = 1 ORDER BY amount DESC"
+expect countByItemId idx_bids_item_amount \
+  "SELECT COUNT(*) FROM bids WHERE item_id = 1"
+
+if (( failures > 0 )); then
+  echo "$failures hot queries without an index" >&2
+  exit 1
+fi
@@ -0,0 +1,49 @@
+-- Baseline: the three tables the middle tier and the authenticator share, as
+-- they existed before migrations were tracked. Databases created before then
+-- are baselined at this version (spring.flyway.baseline-on-migrate), so this
+-- script only runs on empty schemas. Kept to syntax that MySQL 8 and H2 in
+-- MySQL mode both accept.
+
+CREATE TABLE users (
+    user_id        BIGINT AUTO_INCREMENT PRIMARY KEY,
+    username       VARCHAR(50)  NOT NULL UNIQUE,
+    email          VARCHAR(120) NOT NULL UNIQUE,
+    password_hash  VARCHAR(255) NOT NULL,
+    first_name     VARCHAR(60)  NOT NULL,
+    last_name      VARCHAR(60)  NOT NULL,
+    phone          VARCHAR(40),
+    created_at     TIMESTAMP    DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE items (
+    item_id            BIGINT AUTO_INCREMENT PRIMARY KEY,
+    seller_id          BIGINT         NOT NULL,
+    title              VARCHAR(200)   NOT NULL,
+    description        TEXT,
+    condition_code     VARCHAR(10),
+    cover_image_url    VARCHAR(255),
+    ship_cost_std      DECIMAL(10, 2),
+    ship_cost_exp      DECIMAL(10, 2),
+    ship_days          INT,
+    starting_price     DECIMAL(10, 2) NOT NULL,
+    current_price      DECIMAL(10, 2) NOT NULL,
+    minimum_price      DECIMAL(10, 2),
+    auction_type       VARCHAR(20)    NOT NULL,
+    status             VARCHAR(20)    NOT NULL,
+    current_winner_id  BIGINT,
+    category           VARCHAR(80),
+    keywords           TEXT,
+    quantity           INT,
+    created_at         TIMESTAMP      NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    end_time           TIMESTAMP,
+    payment_status     VARCHAR(20)    NOT NULL,
+    payment_time       TIMESTAMP
+);
+
+CREATE TABLE bids (
+    bid_id     BIGINT AUTO_INCREMENT PRIMARY KEY,
+    item_id    BIGINT         NOT NULL,
+    bidder_id  BIGINT         NOT NULL,
+    amount     DECIMAL(10, 2) NOT NULL,
+    bid_time   TIMESTAMP      NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
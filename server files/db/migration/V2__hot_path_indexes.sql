@@ -0,0 +1,19 @@
+-- Indexes behind the repository queries on the request path. Names match the
+-- @Index declarations on ItemEntity / BidEntity. db/check-indexes.sh asserts
+-- via EXPLAIN that each query below uses one.
+
+-- findByStatus, findActiveDeadlines, findByStatusAndEndTimeNotNull...,
+-- findByStatusAfterEndTime: equality on status, range/order on end_time
+CREATE INDEX idx_items_status_end ON items (status, end_time);
+
+-- countByStatusAndAuctionType (active-auction gauge), findByStatusAndAuctionType
+CREATE INDEX idx_items_status_type ON items (status, auction_type);
+
+-- findBySellerId, findBySellerIdAndStatus and the seller dashboard pages
+CREATE INDEX idx_items_seller_status_end ON items (seller_id, status, end_time);
+
+-- buyer dashboard and receipts by buyer
+CREATE INDEX idx_items_winner_payment ON items (current_winner_id, payment_status);
+
+-- findByItemIdOrderByAmountDesc, bid ladder loads, bid history pages, countByItemId
+CREATE INDEX idx_bids_item_amount ON bids (item_id, amount DESC);
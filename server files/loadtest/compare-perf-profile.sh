@@ -0,0 +1,55 @@
+#!/usr/bin/env bash
+#
+# Default profile vs perf profile (application-perf.yml) under the same load.
+#
+# Start the middle tier once per profile against the same, freshly seeded
+# database, then run this script with the profile as label:
+#
+#   java -jar auctionmid.jar
+#   ./compare-perf-profile.sh default
+#
+#   SPRING_PROFILES_ACTIVE=perf java -jar auctionmid.jar
+#   ./compare-perf-profile.sh perf
+#
+# perf-profile.js drives placeBid and the listing endpoints concurrently. Each
+# run writes the k6 summary (requests/sec and p50/p95/p99 per op) and the Hikari
+# pool metrics scraped at the end - connection acquire time, pending threads,
+# pool size - to results/<label>/. Compare the two directories side by side.
+# Under the default profile acquire is a plain timer; under perf it also has a
+# histogram, so p99 can be read from /actuator/prometheus.
+#
+# Env: BASE_URL (default http://localhost:8080), ITEM_IDS (comma-separated
+#      ACTIVE FORWARD items, default 1), BIDDER_ID, BID_VUS, LIST_VUS,
+#      DURATION (default 60s).
+
+set -euo pipefail
+
+LABEL="${1:?usage: $0 <label>}"
+BASE_URL="${BASE_URL:-http://localhost:8080}"
+OUT="results/${LABEL}"
+HERE="$(cd "$(dirname "$0")" && pwd)"
+
+command -v k6 >/dev/null || { echo "needs k6 (https://k6.io)" >&2; exit 1; }
+mkdir -p "$OUT"
+
+metric() {
+  curl -s "$BASE_URL/actuator/metrics/$1"
+  echo
+}
+
+BASE_URL="$BASE_URL" k6 run --summary-export "$OUT/summary.json" \
+    "$HERE/perf-profile.js" | tee "$OUT/k6.txt"
+
+{
+  for m in hikaricp.connections.acquire hikaricp.connections.pending \
+           hikaricp.connections.max hikaricp.connections.timeout \
+           auction.bid.place; do
+    echo "== $m"
+    metric "$m"
+  done
+  echo "== prometheus acquire buckets"
+  curl -s "$BASE_URL/actuator/prometheus" | grep '^hikaricp_connections_acquire' || true
+} > "$OUT/pool.txt"
+
+grep -E "http_reqs|http_req_duration|bids_accepted|bids_rejected|\{ op:" "$OUT/k6.txt" || true
+echo "reports in $OUT"
@@ -0,0 +1,63 @@
+#!/usr/bin/env bash
+#
+# Platform-thread vs virtual-thread comparison for the blocking request path.
+#
+# Start the middle tier once per mode, then run this script against it with the
+# mode as label:
+#
+#   VIRTUAL_THREADS=false java -Djdk.tracePinnedThreads=short -jar auctionmid.jar
+#   ./compare-threading.sh platform
+#
+#   VIRTUAL_THREADS=true  java -Djdk.tracePinnedThreads=short -jar auctionmid.jar
+#   ./compare-threading.sh virtual
+#
+# Each endpoint is driven at rising concurrency with `hey`. Every run writes a
+# latency/throughput report plus the JVM live-thread count sampled mid-run to
+# results/<label>/. Compare the two directories side by side; pinned-carrier
+# stack traces (if any) show up in the server log thanks to tracePinnedThreads.
+#
+# Env: BASE_URL (default http://localhost:8080), ITEM_ID (a FORWARD item),
+#      DURATION (default 30s), LEVELS (default "200 1000 5000 20000").
+
+set -euo pipefail
+
+LABEL="${1:?usage: $0 <label>}"
+BASE_URL="${BASE_URL:-http://localhost:8080}"
+ITEM_ID="${ITEM_ID:-1}"
+DURATION="${DURATION:-30s}"
+LEVELS="${LEVELS:-200 1000 5000 20000}"
+OUT="results/${LABEL}"
+
+command -v hey >/dev/null || { echo "needs hey (https://github.com/rakyll/hey)" >&2; exit 1; }
+mkdir -p "$OUT"
+
+live_threads() {
+  curl -s "$BASE_URL/actuator/metrics/jvm.threads.live" \
+    | sed -n 's/.*"value":\([0-9.]*\).*/\1/p'
+}
+
+run() {
+  local name="$1" concurrency="$2"; shift 2
+  local report="$OUT/${name}-c${concurrency}.txt"
+  echo "== $LABEL $name c=$concurrency"
+  hey -z "$DURATION" -c "$concurrency" "$@" > "$report" &
+  local pid=$!
+  sleep 10
+  local threads
+  threads="$(live_threads)"
+  wait "$pid"
+  echo "jvm.threads.live mid-run: $threads" >> "$report"
+  grep -E "Requests/sec|99%|Status code|\[" "$report" || true
+}
+
+for c in $LEVELS; do
+  # cached read path
+  run item-detail "$c" "$BASE_URL/api/items/$ITEM_ID"
+  # JPA read
+  run item-page "$c" "$BASE_URL/api/items/page?status=ACTIVE&limit=20"
+  # blocking RestTemplate call to the authenticator
+  run auth-login "$c" -m POST -T application/json \
+      -d '{"username":"loadtest","password":"loadtest"}' "$BASE_URL/api/auth/login"
+done
+
+echo "reports in $OUT"
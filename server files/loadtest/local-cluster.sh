@@ -0,0 +1,95 @@
+#!/usr/bin/env bash
+#
+# Run the middle tier as N partitioned nodes on localhost (auction.cluster.*),
+# all sharing one MySQL, and check that every item's bid path lands on a single
+# owner.
+#
+#   ./local-cluster.sh start 3 ../auctionmid.jar   # nodes on 8081, 8082, 8083
+#   ./local-cluster.sh check 1 2 3 4 5             # POST a bid per item to every node
+#   ./local-cluster.sh stop
+#
+# `check` prints, per item and node, the owner the node routed to
+# (X-Auction-Owner) and the status; for one item every node must name the same
+# owner. Throughput against 1 node vs N nodes, with the same workload:
+#
+#   BASE_URLS=http://localhost:8081 ITEM_IDS=1,2,3 ./compare-perf-profile.sh nodes-1
+#   BASE_URLS=http://localhost:8081,http://localhost:8082,http://localhost:8083 \
+#     ITEM_IDS=1,2,3 ./compare-perf-profile.sh nodes-3
+#
+# Use many items: one item's bids still serialize on its owner.
+#
+# Env: FIRST_PORT (default 8081), JAVA_OPTS, BIDDER_ID (default 2) for `check`,
+# AUCTION_CLUSTER_SECRET (default: a random one per `start`).
+# The event log stays off: it can't run in partitioned mode.
+# Nodes log to results/cluster/node-<port>.log.
+
+set -euo pipefail
+
+FIRST_PORT="${FIRST_PORT:-8081}"
+OUT="results/cluster"
+mkdir -p "$OUT"
+
+nodes() {
+  local n="$1" list="" port
+  for ((i = 0; i < n; i++)); do
+    port=$((FIRST_PORT + i))
+    list="${list:+$list,}http://localhost:$port"
+  done
+  echo "$list"
+}
+
+start() {
+  local n="${1:?usage: $0 start <nodes> <jar>}" jar="${2:?usage: $0 start <nodes> <jar>}"
+  local list port
+  list="$(nodes "$n")"
+  local secret="${AUCTION_CLUSTER_SECRET:-$(head -c 32 /dev/urandom | base64)}"
+  for ((i = 0; i < n; i++)); do
+    port=$((FIRST_PORT + i))
+    PORT="$port" \
+    AUCTION_CLUSTER=true \
+    AUCTION_CLUSTER_SELF="http://localhost:$port" \
+    AUCTION_CLUSTER_NODES="$list" \
+    AUCTION_CLUSTER_SECRET="$secret" \
+    AUCTION_EVENT_LOG=false \
+      java ${JAVA_OPTS:-} -jar "$jar" > "$OUT/node-$port.log" 2>&1 &
+    echo "$!" > "$OUT/node-$port.pid"
+    echo "node http://localhost:$port (pid $!)"
+  done
+  echo "cluster: $list"
+}
+
+check() {
+  (( $# > 0 )) || { echo "usage: $0 check <itemId>..." >&2; exit 1; }
+  local pidfile port
+  # rising amounts that fit DECIMAL(10,2); a bid that still loses is fine, routing is what's checked
+  local amount=$(( ($(date +%s) - 1700000000) / 10 ))
+  for item in "$@"; do
+    for pidfile in "$OUT"/node-*.pid; do
+      port="${pidfile##*/node-}"; port="${port%.pid}"
+      amount=$((amount + 1))
+      curl -s -o /dev/null -D - -X POST -H 'Content-Type: application/json' \
+          -d "{\"bidderId\":${BIDDER_ID:-2},\"amount\":$amount}" \
+          "http://localhost:$port/api/items/$item/bids" \
+        | awk -v item="$item" -v port="$port" '
+            /^HTTP/ { status = $2 }
+            tolower($1) == "x-auction-owner:" { owner = $2 }
+            END { gsub(/\r/, "", owner); printf "item %-6s via :%s -> owner %s status %s\n", item, port, owner, status }'
+    done
+  done
+}
+
+stop() {
+  local pidfile
+  for pidfile in "$OUT"/node-*.pid; do
+    [[ -e "$pidfile" ]] || continue
+    kill "$(cat "$pidfile")" 2>/dev/null || true
+    rm -f "$pidfile"
+  done
+}
+
+case "${1:-}" in
+  start) shift; start "$@" ;;
+  check) shift; check "$@" ;;
+  stop)  stop ;;
+  *) echo "usage: $0 start <nodes> <jar> | check <itemId>... | stop" >&2; exit 1 ;;
+esac
@@ -0,0 +1,71 @@
+// k6 workload for compare-perf-profile.sh: bids on FORWARD items plus listing reads.
+//
+// Env: BASE_URL, or BASE_URLS (comma-separated nodes, requests spread over them),
+//      ITEM_IDS (comma-separated ACTIVE FORWARD items), BIDDER_ID,
+//      BID_VUS, LIST_VUS, DURATION.
+
+import http from 'k6/http';
+import { check } from 'k6';
+import { Counter } from 'k6/metrics';
+
+const BASE_URLS = (__ENV.BASE_URLS || __ENV.BASE_URL || 'http://localhost:8080').split(',');
+const ITEM_IDS = (__ENV.ITEM_IDS || '1').split(',').map(Number);
+const BIDDER_ID = Number(__ENV.BIDDER_ID || 2);
+const DURATION = __ENV.DURATION || '60s';
+
+const bidsAccepted = new Counter('bids_accepted');
+const bidsRejected = new Counter('bids_rejected');
+
+export const options = {
+  scenarios: {
+    bids: {
+      executor: 'constant-vus', exec: 'placeBid',
+      vus: Number(__ENV.BID_VUS || 50), duration: DURATION,
+    },
+    listings: {
+      executor: 'constant-vus', exec: 'listItems',
+      vus: Number(__ENV.LIST_VUS || 50), duration: DURATION,
+    },
+  },
+  // no-op thresholds so the summary breaks latency down per op
+  thresholds: {
+    'http_req_duration{op:placeBid}': ['p(99)>=0'],
+    'http_req_duration{op:listPage}': ['p(99)>=0'],
+    'http_req_duration{op:listActive}': ['p(99)>=0'],
+    'http_reqs{op:placeBid}': ['count>=0'],
+    'http_reqs{op:listPage}': ['count>=0'],
+    'http_reqs{op:listActive}': ['count>=0'],
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+// strictly rising across the run, so most bids clear the current price;
+// concurrent bids on the same item that lose the race come back 400 (outbid)
+const start = Date.now();
+function nextAmount() {
+  return (1000 + (Date.now() - start) / 100 + Math.random() / 100).toFixed(2);
+}
+
+function node() {
+  return BASE_URLS[Math.floor(Math.random() * BASE_URLS.length)];
+}
+
+export function placeBid() {
+  const itemId = ITEM_IDS[Math.floor(Math.random() * ITEM_IDS.length)];
+  const res = http.post(`${node()}/api/items/${itemId}/bids`,
+      JSON.stringify({ bidderId: BIDDER_ID, amount: nextAmount() }),
+      { headers: { 'Content-Type': 'application/json' }, tags: { op: 'placeBid' } });
+  if (res.status === 200) {
+    bidsAccepted.add(1);
+  } else if (res.status === 400) {
+    bidsRejected.add(1);
+  }
+  check(res, { 'bid not 5xx': (r) => r.status < 500 });
+}
+
+export function listItems() {
+  const res = Math.random() < 0.5
+      ? http.get(`${node()}/api/items/page?status=ACTIVE&limit=20`, { tags: { op: 'listPage' } })
+      : http.get(`${node()}/api/items/active`, { tags: { op: 'listActive' } });
+  check(res, { 'listing 200': (r) => r.status === 200 });
+}